@@ -0,0 +1,47 @@
+package umc.blog.benchmark;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import umc.blog.BlogApplication;
+import umc.blog.jwt.TokenProvider;
+
+import java.util.List;
+
+final class BenchmarkFixtures {
+    // 벤치마크 전용 HS512 키 (64바이트)
+    static final String SECRET = "YiA4W_PHce-ItwVh35qUAr4vU-s2yqMb7kNqbdE_i0S3cBbtg5ZpTtOaluO8bBBxXvkd62xDgmM51WSMao9Sng";
+    static final long TOKEN_VALIDITY_SECONDS = 3600;
+
+    private BenchmarkFixtures() {
+    }
+
+    static TokenProvider tokenProvider() throws Exception {
+        TokenProvider tokenProvider = new TokenProvider(SECRET, TOKEN_VALIDITY_SECONDS, 10_000);
+        tokenProvider.afterPropertiesSet();
+        return tokenProvider;
+    }
+
+    static Authentication authentication(String username) {
+        return new UsernamePasswordAuthenticationToken(username, "",
+                List.of(new SimpleGrantedAuthority("ROLE_USER")));
+    }
+
+    // 내장 H2로 애플리케이션 전체를 기동
+    static ConfigurableApplicationContext startApplication(String databaseName, String... extraProperties) {
+        return new SpringApplicationBuilder(BlogApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:" + databaseName + ";DB_CLOSE_DELAY=-1;NON_KEYWORDS=USER",
+                        "spring.datasource.driver-class-name=org.h2.Driver",
+                        "spring.datasource.username=sa",
+                        "spring.datasource.password=",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "jwt.secret=" + SECRET,
+                        "jwt.token-validity-in-seconds=" + TOKEN_VALIDITY_SECONDS)
+                .properties(extraProperties)
+                .run();
+    }
+}
@@ -0,0 +1,58 @@
+package umc.blog.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.ResponseEntity;
+import umc.blog.exception.ExceptionResponse;
+import umc.blog.exception.GlobalExceptionHandler;
+import umc.blog.exception.TargetNotFoundException;
+
+import java.util.concurrent.TimeUnit;
+
+// 실패 요청 1건당 할당량 비교: -prof gc 의 gc.alloc.rate.norm 참고
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ExceptionPathBenchmark {
+    // 실제 요청 처리 시 필터/프록시로 쌓이는 스택 깊이를 흉내냄
+    @Param({"20", "150"})
+    int stackDepth;
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+
+    // 변경 전: 스택 트레이스를 수집하는 일반 RuntimeException
+    static class StackTraceTargetNotFoundException extends RuntimeException {
+        StackTraceTargetNotFoundException(String message) {
+            super(message);
+        }
+    }
+
+    @Benchmark
+    public ResponseEntity<ExceptionResponse> before() {
+        try {
+            throwAt(stackDepth, true);
+        } catch (StackTraceTargetNotFoundException e) {
+            return handler.handleTargetNotFound(new TargetNotFoundException(e.getMessage()));
+        }
+        return null;
+    }
+
+    @Benchmark
+    public ResponseEntity<ExceptionResponse> after() {
+        try {
+            throwAt(stackDepth, false);
+        } catch (TargetNotFoundException e) {
+            return handler.handleTargetNotFound(e);
+        }
+        return null;
+    }
+
+    private static void throwAt(int depth, boolean withStackTrace) {
+        if (depth > 0) {
+            throwAt(depth - 1, withStackTrace);
+            return;
+        }
+        if (withStackTrace)
+            throw new StackTraceTargetNotFoundException("target not found");
+        throw new TargetNotFoundException("target not found");
+    }
+}
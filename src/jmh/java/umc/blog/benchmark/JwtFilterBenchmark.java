@@ -0,0 +1,49 @@
+package umc.blog.benchmark;
+
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import umc.blog.jwt.JwtFilter;
+import umc.blog.jwt.TokenDenylist;
+import umc.blog.jwt.TokenProvider;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtFilterBenchmark {
+    private JwtFilter jwtFilter;
+    private MockHttpServletRequest authenticatedRequest;
+    private MockHttpServletRequest anonymousRequest;
+    private final FilterChain chain = (request, response) -> {
+    };
+
+    @Setup
+    public void setUp() throws Exception {
+        TokenProvider tokenProvider = BenchmarkFixtures.tokenProvider();
+        jwtFilter = new JwtFilter(tokenProvider, new TokenDenylist(100_000, 0.01));
+        String token = tokenProvider.createToken(BenchmarkFixtures.authentication("bench"), 1L);
+
+        authenticatedRequest = new MockHttpServletRequest("GET", "/post/1");
+        authenticatedRequest.addHeader(JwtFilter.AUTHORIZATION_HEADER, "Bearer " + token);
+        anonymousRequest = new MockHttpServletRequest("GET", "/post");
+    }
+
+    @TearDown(Level.Invocation)
+    public void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public void authenticated() throws Exception {
+        jwtFilter.doFilter(authenticatedRequest, new MockHttpServletResponse(), chain);
+    }
+
+    @Benchmark
+    public void anonymous() throws Exception {
+        jwtFilter.doFilter(anonymousRequest, new MockHttpServletResponse(), chain);
+    }
+}
@@ -0,0 +1,30 @@
+package umc.blog.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.*;
+import umc.blog.dto.PostDto;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PostDtoSerializationBenchmark {
+    @Param({"100", "10000"})
+    int contentLength;
+
+    private ObjectWriter writer;
+    private PostDto post;
+
+    @Setup
+    public void setUp() {
+        writer = new ObjectMapper().writerFor(PostDto.class);
+        post = new PostDto("벤치마크 글", "bench", "가".repeat(contentLength));
+    }
+
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return writer.writeValueAsBytes(post);
+    }
+}
@@ -0,0 +1,57 @@
+package umc.blog.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import umc.blog.cache.PostCache;
+import umc.blog.dto.PostDto;
+import umc.blog.entity.User;
+import umc.blog.jwt.UserPrincipal;
+import umc.blog.repository.UserRepository;
+import umc.blog.service.PostService;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PostServiceBenchmark {
+    private ConfigurableApplicationContext context;
+    private PostService postService;
+    private PostCache postCache;
+    private UserPrincipal principal;
+    private Long postId;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkFixtures.startApplication("post-service-bench");
+        postService = context.getBean(PostService.class);
+        postCache = context.getBean(PostCache.class);
+
+        User user = context.getBean(UserRepository.class).save(new User("bench", "password"));
+        principal = new UserPrincipal(user.getId(), user.getUsername());
+
+        postService.write(new PostDto("벤치마크 글", null, "벤치마크 글 내용"), principal);
+        postId = postService.findPage(null, 1, null).getPosts().get(0).getId();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public PostDto findOneCached() {
+        return postService.findOne(postId);
+    }
+
+    @Benchmark
+    public PostDto findOneUncached() {
+        postCache.evict(postId);
+        return postService.findOne(postId);
+    }
+
+    @Benchmark
+    public PostDto write() {
+        return postService.write(new PostDto("벤치마크 글", null, "벤치마크 글 내용"), principal);
+    }
+}
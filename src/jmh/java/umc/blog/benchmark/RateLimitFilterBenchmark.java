@@ -0,0 +1,45 @@
+package umc.blog.benchmark;
+
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import umc.blog.ratelimit.RateLimitFilter;
+import umc.blog.ratelimit.RateLimitProperties;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RateLimitFilterBenchmark {
+    private RateLimitFilter rateLimitFilter;
+    private MockHttpServletRequest limitedRequest;
+    private MockHttpServletRequest unlimitedRequest;
+    private final FilterChain chain = (request, response) -> {
+    };
+
+    @Setup
+    public void setUp() {
+        RateLimitProperties properties = new RateLimitProperties();
+        // 버킷 갱신 비용만 측정하도록 사실상 거부되지 않는 한도 사용
+        properties.setRules(List.of(new RateLimitProperties.Rule("POST", "/login", Integer.MAX_VALUE, 1e12)));
+        rateLimitFilter = new RateLimitFilter(properties);
+
+        limitedRequest = new MockHttpServletRequest("POST", "/login");
+        limitedRequest.setRemoteAddr("10.0.0.1");
+        unlimitedRequest = new MockHttpServletRequest("GET", "/post");
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void limitedRoute() throws Exception {
+        rateLimitFilter.doFilter(limitedRequest, new MockHttpServletResponse(), chain);
+    }
+
+    @Benchmark
+    public void unlimitedRoute() throws Exception {
+        rateLimitFilter.doFilter(unlimitedRequest, new MockHttpServletResponse(), chain);
+    }
+}
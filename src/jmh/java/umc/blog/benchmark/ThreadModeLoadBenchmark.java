@@ -0,0 +1,57 @@
+package umc.blog.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import umc.blog.dto.PostDto;
+import umc.blog.entity.User;
+import umc.blog.jwt.UserPrincipal;
+import umc.blog.repository.UserRepository;
+import umc.blog.service.PostService;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.TimeUnit;
+
+// 플랫폼 스레드 풀 / 가상 스레드 모드의 HTTP 처리량 비교
+// 캐시를 거치지 않는 목록 조회로 매 요청 JDBC 왕복을 발생시킴
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(256)
+public class ThreadModeLoadBenchmark {
+    @Param({"false", "true"})
+    String virtualThreads;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient httpClient;
+    private HttpRequest listRequest;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkFixtures.startApplication("thread-mode-bench-" + virtualThreads,
+                "threads.virtual.enabled=" + virtualThreads,
+                "spring.datasource.hikari.maximum-pool-size=10");
+
+        User user = context.getBean(UserRepository.class).save(new User("bench", "password"));
+        UserPrincipal principal = new UserPrincipal(user.getId(), user.getUsername());
+        PostService postService = context.getBean(PostService.class);
+        for (int i = 0; i < 100; i++)
+            postService.write(new PostDto("벤치마크 글 " + i, null, "벤치마크 글 내용 " + i), principal);
+
+        String port = context.getEnvironment().getProperty("local.server.port");
+        httpClient = HttpClient.newHttpClient();
+        listRequest = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/post?size=20")).GET().build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int listPosts() throws Exception {
+        return httpClient.send(listRequest, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+}
@@ -0,0 +1,44 @@
+package umc.blog.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.Authentication;
+import umc.blog.jwt.TokenProvider;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TokenProviderBenchmark {
+    private TokenProvider tokenProvider;
+    private Authentication authentication;
+    private String token;
+
+    @Setup
+    public void setUp() throws Exception {
+        tokenProvider = BenchmarkFixtures.tokenProvider();
+        authentication = BenchmarkFixtures.authentication("bench");
+        token = tokenProvider.createToken(authentication, 1L);
+    }
+
+    @Benchmark
+    public String createToken() {
+        return tokenProvider.createToken(authentication, 1L);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return tokenProvider.validateToken(token);
+    }
+
+    @Benchmark
+    public Authentication getAuthentication() {
+        return tokenProvider.getAuthentication(token);
+    }
+
+    // 검증 캐시 적중 경로
+    @Benchmark
+    public Authentication authenticateCached() {
+        return tokenProvider.authenticate(token);
+    }
+}
@@ -0,0 +1,62 @@
+package umc.blog.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import umc.blog.dto.PostDto;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+// W-TinyLFU 기반 Caffeine 캐시, 항목의 대략적인 메모리 크기로 용량 제한
+// 적중/미스/제거 수는 cache.gets, cache.evictions 등 cache=post 태그의 지표로 노출 (적중률 = hit / (hit + miss))
+@Component
+public class CaffeinePostCache implements PostCache {
+    private static final int ENTRY_OVERHEAD_BYTES = 128;
+
+    private final Cache<Long, PostDto> cache;
+
+    public CaffeinePostCache(@Value("${post.cache.maximum-weight-bytes:67108864}") long maximumWeightBytes,
+                             @Value("${post.cache.expire-after-write-seconds:600}") long expireAfterWriteSeconds) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumWeightBytes)
+                .weigher((Long id, PostDto post) -> weigh(post))
+                .expireAfterWrite(Duration.ofSeconds(expireAfterWriteSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(Metrics.globalRegistry, cache, "post");
+    }
+
+    @Override
+    public PostDto get(Long id, Function<Long, PostDto> loader) {
+        return cache.get(id, loader);
+    }
+
+    @Override
+    public PostDto getIfPresent(Long id) {
+        return cache.getIfPresent(id);
+    }
+
+    @Override
+    public void evict(Long id) {
+        cache.invalidate(id);
+    }
+
+    @Override
+    public void clear() {
+        cache.invalidateAll();
+    }
+
+    // 문자열은 UTF-16 기준 문자당 2바이트로 추정
+    private static int weigh(PostDto post) {
+        long chars = length(post.getTitle()) + length(post.getWriter()) + length(post.getContent());
+        return (int) Math.min(Integer.MAX_VALUE, ENTRY_OVERHEAD_BYTES + chars * 2);
+    }
+
+    private static long length(String value) {
+        return value == null ? 0 : value.length();
+    }
+}
@@ -0,0 +1,17 @@
+package umc.blog.cache;
+
+import umc.blog.dto.PostDto;
+
+import java.util.function.Function;
+
+public interface PostCache {
+
+    // 캐시에 없으면 loader로 읽어 저장, loader가 null을 반환하면 저장하지 않음
+    PostDto get(Long id, Function<Long, PostDto> loader);
+
+    PostDto getIfPresent(Long id);
+
+    void evict(Long id);
+
+    void clear();
+}
@@ -0,0 +1,27 @@
+package umc.blog.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import umc.blog.metrics.QueryCounter;
+
+@Configuration
+public class JpaConfig {
+
+    // 일괄 작업의 INSERT/UPDATE를 JDBC 배치로 전송 (spring.jpa.properties로 지정한 값이 우선)
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchingCustomizer() {
+        return properties -> {
+            properties.putIfAbsent(AvailableSettings.STATEMENT_BATCH_SIZE, 50);
+            properties.putIfAbsent(AvailableSettings.ORDER_INSERTS, true);
+            properties.putIfAbsent(AvailableSettings.ORDER_UPDATES, true);
+        };
+    }
+
+    // 요청당 SQL 수 집계 (RequestMetricsFilter)
+    @Bean
+    public HibernatePropertiesCustomizer queryCountingCustomizer() {
+        return properties -> properties.putIfAbsent(AvailableSettings.STATEMENT_INSPECTOR, new QueryCounter());
+    }
+}
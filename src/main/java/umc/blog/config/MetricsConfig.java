@@ -0,0 +1,19 @@
+package umc.blog.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.metrics.MeterRegistryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+
+// actuator 노출 범위와 히스토그램 기본값은 metrics.properties (application.yml 값이 우선)
+@Configuration
+@PropertySource("classpath:metrics.properties")
+public class MetricsConfig {
+
+    @Bean
+    public MeterRegistryCustomizer<MeterRegistry> commonTags(@Value("${spring.application.name:blog}") String application) {
+        return registry -> registry.config().commonTags("application", application);
+    }
+}
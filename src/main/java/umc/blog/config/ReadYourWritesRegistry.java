@@ -0,0 +1,26 @@
+package umc.blog.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+
+// 최근 쓰기를 커밋한 유저 목록, 이 기간 동안 해당 유저의 읽기는 primary로 보냄 (자신이 쓴 내용을 바로 읽도록)
+public class ReadYourWritesRegistry {
+    private final Cache<Long, Boolean> recentWriters;
+
+    public ReadYourWritesRegistry(Duration window, long maxTrackedUsers) {
+        this.recentWriters = Caffeine.newBuilder()
+                .maximumSize(maxTrackedUsers)
+                .expireAfterWrite(window)
+                .build();
+    }
+
+    public void markWriter(Long userId) {
+        recentWriters.put(userId, Boolean.TRUE);
+    }
+
+    public boolean isRecentWriter(Long userId) {
+        return recentWriters.getIfPresent(userId) != null;
+    }
+}
@@ -0,0 +1,72 @@
+package umc.blog.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+// spring.datasource.replica.url이 있으면 읽기 전용 트랜잭션을 replica 풀로 분산
+// primary는 기존 spring.datasource.*, replica는 spring.datasource.replica.* 설정 사용
+@Configuration
+@ConditionalOnProperty(prefix = "spring.datasource.replica", name = "url")
+public class ReplicaDataSourceConfig {
+
+    // 반환 타입을 DataSource로 둠 (가상 스레드 모드에서는 AdmissionControlledDataSource로 감싸짐)
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public DataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.replica.hikari")
+    public DataSource replicaDataSource(@Value("${spring.datasource.replica.url}") String url,
+                                        @Value("${spring.datasource.replica.username:${spring.datasource.username:}}") String username,
+                                        @Value("${spring.datasource.replica.password:${spring.datasource.password:}}") String password) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReadYourWritesRegistry readYourWritesRegistry(
+            @Value("${spring.datasource.replica.read-your-writes-ms:5000}") long windowMillis,
+            @Value("${spring.datasource.replica.read-your-writes-max-users:100000}") long maxTrackedUsers) {
+        return new ReadYourWritesRegistry(Duration.ofMillis(windowMillis), maxTrackedUsers);
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                               @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                               @Value("${spring.datasource.replica.heartbeat-enabled:true}") boolean heartbeatEnabled,
+                                               @Value("${spring.datasource.replica.max-lag-ms:2000}") long maxLagMillis) {
+        return new ReplicaLagMonitor(primaryDataSource, replicaDataSource, heartbeatEnabled, maxLagMillis);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                 ReadYourWritesRegistry readYourWritesRegistry, ReplicaLagMonitor replicaLagMonitor) {
+        return new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(primaryDataSource, replicaDataSource,
+                readYourWritesRegistry, replicaLagMonitor::isReplicaAvailable));
+    }
+}
@@ -0,0 +1,115 @@
+package umc.blog.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import umc.blog.entity.ReplicaHeartbeat;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+// replica 상태 확인: primary에 기록한 heartbeat 중 replica에 아직 반영되지 않은 가장 오래된 것의 경과 시간을 복제 지연으로 사용
+// heartbeat 테이블은 ReplicaHeartbeat 엔티티로 생성
+// heartbeat를 끄면(로컬 H2 등 실제 복제가 없는 환경) 접속 가능 여부만 확인
+@Slf4j
+public class ReplicaLagMonitor {
+    // 지연이 이보다 길게 쌓이면 오래된 heartbeat부터 버림 (허용 지연을 한참 넘은 상태)
+    private static final int MAX_PENDING_BEATS = 1000;
+
+    private final DataSource replicaDataSource;
+    private final JdbcTemplate primary;
+    private final JdbcTemplate replica;
+    private final boolean heartbeatEnabled;
+    private final long maxLagMillis;
+
+    private volatile boolean replicaAvailable;
+    private volatile long lagMillis = -1;
+    // 기록했지만 replica에서 아직 확인하지 못한 heartbeat 시각 (오래된 순)
+    private final Deque<Long> pendingBeats = new ArrayDeque<>();
+    private boolean started;
+
+    public ReplicaLagMonitor(DataSource primaryDataSource, DataSource replicaDataSource,
+                             boolean heartbeatEnabled, long maxLagMillis) {
+        this.replicaDataSource = replicaDataSource;
+        this.primary = new JdbcTemplate(primaryDataSource);
+        this.replica = new JdbcTemplate(replicaDataSource);
+        this.heartbeatEnabled = heartbeatEnabled;
+        this.maxLagMillis = maxLagMillis;
+        Gauge.builder("datasource.replica.lag", this, monitor -> monitor.lagMillis)
+                .description("replica 복제 지연 (ms), 측정 실패 시 -1")
+                .register(Metrics.globalRegistry);
+        Gauge.builder("datasource.replica.available", this, monitor -> monitor.replicaAvailable ? 1 : 0)
+                .description("replica로 읽기를 보내는 중이면 1")
+                .register(Metrics.globalRegistry);
+    }
+
+    public boolean isReplicaAvailable() {
+        return replicaAvailable;
+    }
+
+    public long getLagMillis() {
+        return lagMillis;
+    }
+
+    @Scheduled(fixedDelayString = "${spring.datasource.replica.lag-check-interval-ms:1000}")
+    public synchronized void check() {
+        boolean available;
+        try {
+            if (heartbeatEnabled) {
+                lagMillis = measureLag();
+                available = lagMillis <= maxLagMillis;
+            } else {
+                lagMillis = -1;
+                available = isReachable();
+            }
+        } catch (Exception e) {
+            log.debug("replica 상태 확인 실패", e);
+            lagMillis = -1;
+            available = false;
+        }
+
+        if (available != replicaAvailable)
+            log.warn("replica 읽기 {} (복제 지연 {}ms, 허용 {}ms)", available ? "재개" : "중단", lagMillis, maxLagMillis);
+        replicaAvailable = available;
+    }
+
+    private long measureLag() {
+        // 새 heartbeat를 기록하기 전에 replica가 마지막으로 받은 값을 읽음
+        Long replicaBeatAt = beatAt(replica);
+        if (!started) {
+            // 재시작 직후에는 이전에 기록된 primary 값과 비교
+            Long primaryBeatAt = beatAt(primary);
+            if (primaryBeatAt != null && (replicaBeatAt == null || primaryBeatAt > replicaBeatAt))
+                pendingBeats.add(primaryBeatAt);
+            started = true;
+        }
+        while (replicaBeatAt != null && !pendingBeats.isEmpty() && pendingBeats.peekFirst() <= replicaBeatAt)
+            pendingBeats.pollFirst();
+
+        long now = System.currentTimeMillis();
+        long lag = pendingBeats.isEmpty() ? 0 : Math.max(now - pendingBeats.peekFirst(), 0);
+
+        if (primary.update("update replica_heartbeat set beat_at = ? where id = ?", now, ReplicaHeartbeat.ID) == 0)
+            primary.update("insert into replica_heartbeat (id, beat_at) values (?, ?)", ReplicaHeartbeat.ID, now);
+        pendingBeats.addLast(now);
+        if (pendingBeats.size() > MAX_PENDING_BEATS)
+            pendingBeats.pollFirst();
+        return lag;
+    }
+
+    private static Long beatAt(JdbcTemplate jdbcTemplate) {
+        List<Long> beatAt = jdbcTemplate.queryForList("select beat_at from replica_heartbeat where id = ?", Long.class, ReplicaHeartbeat.ID);
+        return beatAt.isEmpty() ? null : beatAt.get(0);
+    }
+
+    private boolean isReachable() throws Exception {
+        try (Connection connection = replicaDataSource.getConnection()) {
+            return connection.isValid(1);
+        }
+    }
+}
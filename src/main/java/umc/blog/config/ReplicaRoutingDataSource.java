@@ -0,0 +1,73 @@
+package umc.blog.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import umc.blog.jwt.UserPrincipal;
+import umc.blog.util.TransactionUtil;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+// 읽기 전용 트랜잭션은 replica, 그 외는 primary로 보냄
+// 트랜잭션 속성이 정해진 뒤 커넥션을 얻도록 반드시 LazyConnectionDataSourceProxy로 감싸서 사용
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+    public enum Target {
+        PRIMARY, REPLICA
+    }
+
+    private static final ThreadLocal<Boolean> FORCE_PRIMARY = new ThreadLocal<>();
+
+    private final ReadYourWritesRegistry readYourWritesRegistry;
+    private final BooleanSupplier replicaAvailable;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica,
+                                    ReadYourWritesRegistry readYourWritesRegistry, BooleanSupplier replicaAvailable) {
+        this.readYourWritesRegistry = readYourWritesRegistry;
+        this.replicaAvailable = replicaAvailable;
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    // 복제 지연과 무관하게 최신 데이터가 필요한 조회 (예: 가입 직후 로그인)
+    public static <T> T usePrimary(Supplier<T> action) {
+        Boolean previous = FORCE_PRIMARY.get();
+        FORCE_PRIMARY.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null)
+                FORCE_PRIMARY.remove();
+        }
+    }
+
+    @Override
+    protected Target determineCurrentLookupKey() {
+        Long userId = currentUserId();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            // 실제 읽기/쓰기 트랜잭션의 커밋된 쓰기만 기록, 롤백되거나 트랜잭션 밖의 조회(JdbcTemplate 등)는 표시하지 않음
+            if (userId != null && TransactionSynchronizationManager.isActualTransactionActive())
+                TransactionUtil.afterCommit(() -> readYourWritesRegistry.markWriter(userId));
+            return Target.PRIMARY;
+        }
+        if (FORCE_PRIMARY.get() != null)
+            return Target.PRIMARY;
+        if (userId != null && readYourWritesRegistry.isRecentWriter(userId))
+            return Target.PRIMARY;
+        // 복제 지연이 허용치를 넘었거나 replica에 접속할 수 없으면 primary에서 읽음
+        if (!replicaAvailable.getAsBoolean())
+            return Target.PRIMARY;
+        return Target.REPLICA;
+    }
+
+    private static Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal principal)
+            return principal.getId();
+        return null;
+    }
+}
@@ -1,32 +1,60 @@
 package umc.blog.config;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import umc.blog.jwt.*;
+import umc.blog.ratelimit.RateLimitFilter;
+import umc.blog.ratelimit.RateLimitProperties;
+import umc.blog.service.UserAuthorities;
+
+import java.util.Map;
+
 @Configuration
 @EnableWebSecurity
+@EnableConfigurationProperties(RateLimitProperties.class)
 public class SecurityConfig {
     private final TokenProvider tokenProvider;
+    private final TokenDenylist tokenDenylist;
+    private final RateLimitProperties rateLimitProperties;
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
     private final JwtAccessDeniedHandler jwtAccessDeniedHandler;
+    private final int serverPort;
+    private final int managementPort;
 
-    public SecurityConfig(TokenProvider tokenProvider, JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint, JwtAccessDeniedHandler jwtAccessDeniedHandler) {
+    public SecurityConfig(TokenProvider tokenProvider, TokenDenylist tokenDenylist, RateLimitProperties rateLimitProperties, JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint, JwtAccessDeniedHandler jwtAccessDeniedHandler,
+                          @Value("${server.port:8080}") int serverPort,
+                          @Value("${management.server.port:-1}") int managementPort) {
         this.tokenProvider = tokenProvider;
+        this.tokenDenylist = tokenDenylist;
+        this.rateLimitProperties = rateLimitProperties;
         this.jwtAuthenticationEntryPoint = jwtAuthenticationEntryPoint;
         this.jwtAccessDeniedHandler = jwtAccessDeniedHandler;
+        this.serverPort = serverPort;
+        this.managementPort = managementPort;
     }
 
+    // 비용(strength)을 올리면 기존 해시는 다음 로그인 성공 시 새 비용으로 재해시됨
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${password.bcrypt-strength:10}") int bcryptStrength) {
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(bcryptStrength);
+        DelegatingPasswordEncoder passwordEncoder = new DelegatingPasswordEncoder("bcrypt", Map.of("bcrypt", bcrypt));
+        // 접두사({bcrypt}) 없이 저장된 기존 해시도 검증
+        passwordEncoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return passwordEncoder;
     }
 
     @Bean
@@ -37,6 +65,12 @@ public class SecurityConfig {
 
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+        // 서블릿 필터로 중복 등록되지 않도록 빈이 아닌 보안 필터 체인에만 추가
+        RateLimitFilter rateLimitFilter = new RateLimitFilter(rateLimitProperties);
+        // prometheus 수집은 management.server.port로 분리된 포트에서만 인증 없이 허용 (공개 포트에서는 인증 필요)
+        AntPathRequestMatcher prometheusPath = new AntPathRequestMatcher("/actuator/prometheus");
+        RequestMatcher prometheusOnManagementPort = request -> managementPort > 0 && managementPort != serverPort
+                && request.getLocalPort() == managementPort && prometheusPath.matches(request);
         http
                 .httpBasic().disable()
                 .csrf().disable()
@@ -51,10 +85,16 @@ public class SecurityConfig {
                 .authorizeHttpRequests()
                 .requestMatchers("/signup").permitAll()
                 .requestMatchers("/login").permitAll()
+                .requestMatchers("/token/refresh").permitAll()
                 .requestMatchers("/post").permitAll()
+                .requestMatchers("/actuator/health").permitAll()
+                .requestMatchers(prometheusOnManagementPort).permitAll()
+                // 전체 글 내보내기/대량 가져오기는 백업/이관 작업용
+                .requestMatchers(HttpMethod.GET, "/post/export").hasRole(UserAuthorities.ADMIN)
+                .requestMatchers(HttpMethod.POST, "/post/import").hasRole(UserAuthorities.ADMIN)
                 .anyRequest().authenticated()
                 .and()
-                .apply(new JwtSecurityConfig(tokenProvider));
+                .apply(new JwtSecurityConfig(tokenProvider, tokenDenylist, rateLimitFilter));
         return http.build();
     }
 }
@@ -0,0 +1,47 @@
+package umc.blog.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+// IDENTITY로 쌓인 기존 id 위로 시퀀스를 올림 (MySQL의 시퀀스 테이블은 1부터 시작해 기존 post_id와 충돌)
+// 웹 서버가 요청을 받기 전(모든 싱글톤 생성 직후)에 실행
+@Slf4j
+@Component
+public class SequenceSeeder implements SmartInitializingSingleton {
+    // @SequenceGenerator의 allocationSize와 같아야 함
+    private static final int ALLOCATION_SIZE = 50;
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final JdbcTemplate jdbcTemplate;
+
+    public SequenceSeeder(EntityManagerFactory entityManagerFactory, JdbcTemplate jdbcTemplate) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        Dialect dialect = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getJdbcServices().getDialect();
+        // 네이티브 시퀀스는 현재 값을 소비하지 않고 읽을 수 없어 자동으로 되돌릴 위험이 있으므로 건드리지 않음
+        if (dialect.getSequenceSupport().supportsSequences())
+            return;
+
+        seed("post_seq", "post", "post_id");
+        seed("post_event_seq", "post_event", "post_event_id");
+    }
+
+    // pooled 옵티마이저는 읽은 값 v에 대해 (v - allocationSize, v] 범위를 쓰므로 max(id) + allocationSize보다 커야 함
+    // 값을 올리기만 하므로 여러 인스턴스가 동시에 기동해도 안전
+    private void seed(String sequenceTable, String table, String idColumn) {
+        Long maxId = jdbcTemplate.queryForObject("select coalesce(max(" + idColumn + "), 0) from " + table, Long.class);
+        long floor = (maxId == null ? 0 : maxId) + ALLOCATION_SIZE + 1;
+        int updated = jdbcTemplate.update("update " + sequenceTable + " set next_val = ? where next_val < ?", floor, floor);
+        if (updated > 0)
+            log.info("{} 시작 값을 {}로 올림 (기존 최대 {} = {})", sequenceTable, floor, idColumn, maxId);
+    }
+}
@@ -0,0 +1,56 @@
+package umc.blog.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+
+import java.util.concurrent.Executors;
+
+// threads.virtual.enabled=true 이면 서블릿 요청과 비동기 응답을 가상 스레드에서 처리
+@Configuration
+@ConditionalOnProperty(name = "threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        return protocolHandler -> protocolHandler.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    // StreamingResponseBody 등 MVC 비동기 처리에 사용
+    @Bean(name = TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+    public AsyncTaskExecutor applicationTaskExecutor() {
+        return new TaskExecutorAdapter(Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    // 수천 개의 가상 스레드가 동시에 Hikari로 몰리지 않도록 풀 크기만큼만 입장 허용
+    @Bean
+    public static BeanPostProcessor connectionAdmissionPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof HikariDataSource hikari))
+                    return bean;
+                AdmissionControlledDataSource dataSource =
+                        new AdmissionControlledDataSource(hikari, hikari.getMaximumPoolSize(), hikari.getConnectionTimeout());
+                // Hikari 자체 지표(hikaricp.*)는 actuator가 등록, 입장 대기열만 추가
+                Gauge.builder("datasource.admission.waiting", dataSource, AdmissionControlledDataSource::getWaitingThreads)
+                        .description("커넥션 입장을 기다리는 스레드 수")
+                        .tag("pool", beanName)
+                        .register(Metrics.globalRegistry);
+                Gauge.builder("datasource.admission.available", dataSource, AdmissionControlledDataSource::getAvailablePermits)
+                        .description("남은 입장 허용 수")
+                        .tag("pool", beanName)
+                        .register(Metrics.globalRegistry);
+                return dataSource;
+            }
+        };
+    }
+}
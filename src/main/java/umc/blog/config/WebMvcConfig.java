@@ -0,0 +1,32 @@
+package umc.blog.config;
+
+import org.springframework.context.annotation.Configuration;
+import umc.blog.metrics.AsyncQueryCountingInterceptor;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+    // 요청 속성에 Duration을 넣은 핸들러만 StreamingResponseBody 응답 시간 제한을 늘림 (그 외는 spring.mvc.async.request-timeout)
+    public static final String ASYNC_TIMEOUT_ATTRIBUTE = WebMvcConfig.class.getName() + ".asyncTimeout";
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.registerCallableInterceptors(new CallableProcessingInterceptor() {
+            // 비동기 처리가 시작되기 직전이라 아직 시간 제한을 바꿀 수 있음
+            @Override
+            public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+                Object timeout = request.getAttribute(ASYNC_TIMEOUT_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+                if (timeout instanceof Duration duration && request instanceof AsyncWebRequest asyncWebRequest)
+                    asyncWebRequest.setTimeout(duration.toMillis());
+            }
+        }, new AsyncQueryCountingInterceptor());
+    }
+}
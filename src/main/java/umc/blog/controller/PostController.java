@@ -1,74 +1,232 @@
 package umc.blog.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import umc.blog.config.WebMvcConfig;
 import umc.blog.dto.PostDto;
 import umc.blog.dto.PostEditDto;
+import umc.blog.dto.PostVersionDto;
 import umc.blog.exception.InputValidateException;
-import umc.blog.exception.ExceptionResponse;
-import umc.blog.exception.PermissionException;
-import umc.blog.exception.TargetNotFoundException;
+import umc.blog.jwt.UserPrincipal;
+import umc.blog.service.PostExportService;
+import umc.blog.service.PostImportService;
 import umc.blog.service.PostService;
+import umc.blog.service.PostViewCounter;
 import umc.blog.util.UserUtil;
 
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+
 @RestController
 @RequestMapping("/post")
 public class PostController {
+    public static final String VIEW_COUNT_HEADER = "X-View-Count";
+
     private final PostService postService;
     private final UserUtil userUtil;
+    private final PostViewCounter postViewCounter;
+    private final PostExportService postExportService;
+    private final PostImportService postImportService;
+    private final Duration bulkRequestTimeout;
 
     @Autowired
-    public PostController(PostService postService, UserUtil userUtil) {
+    public PostController(PostService postService, UserUtil userUtil, PostViewCounter postViewCounter,
+                          PostExportService postExportService, PostImportService postImportService,
+                          @Value("${post.bulk.request-timeout:30m}") Duration bulkRequestTimeout) {
         this.postService = postService;
         this.userUtil = userUtil;
+        this.postViewCounter = postViewCounter;
+        this.postExportService = postExportService;
+        this.postImportService = postImportService;
+        this.bulkRequestTimeout = bulkRequestTimeout;
+    }
+
+    // 글 목록 조회 (cursor 기반 페이징)
+    @GetMapping
+    ResponseEntity<?> findPosts(@RequestParam(required = false) Long cursor,
+                                @RequestParam(defaultValue = "20") int size,
+                                @RequestParam(required = false) String writer) {
+        return ResponseEntity.ok(postService.findPage(cursor, size, writer));
     }
 
-    // 특정 글 조회 (id)
+    // 글 검색 (제목/본문, 관련도순)
+    @GetMapping("/search")
+    ResponseEntity<?> searchPosts(@RequestParam String q,
+                                  @RequestParam(required = false) String cursor,
+                                  @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(postService.search(q, cursor, size));
+    }
+
+    // 특정 글 조회 (id), 조회수는 본문(ETag 대상)과 별도로 X-View-Count 헤더로 응답 (304 응답에도 포함)
     @GetMapping("/{id}")
-    ResponseEntity<?> findPostById(@PathVariable Long id) {
-        try {
-            return ResponseEntity.ok(postService.findOne(id));
-        } catch (TargetNotFoundException e) {
-            return errorMessage(e.getMessage());
+    ResponseEntity<?> findPostById(@PathVariable Long id,
+                                   @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        // 변경이 없으면 본문 조회 및 직렬화 없이 304 응답
+        if (ifNoneMatch != null) {
+            PostVersionDto current = postService.findVersionAndViewCount(id);
+            String eTag = eTag(id, current.getVersion());
+            if (matchesETag(ifNoneMatch, eTag)) {
+                postViewCounter.increment(id);
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(eTag)
+                        .header(VIEW_COUNT_HEADER, String.valueOf(postViewCounter.viewCount(id, current.getViewCount())))
+                        .build();
+            }
         }
+
+        PostDto post = postService.findOne(id);
+        postViewCounter.increment(id);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(eTag(id, post.getVersion()))
+                .header(VIEW_COUNT_HEADER, String.valueOf(postViewCounter.viewCount(id, post.getViewCount())));
+        if (post.getModifiedAt() != null)
+            response.lastModified(post.getModifiedAt());
+        return response.body(post);
+    }
+
+    // 글 본문 스트리밍 (큰 글도 메모리에 전부 올리지 않음)
+    @GetMapping("/{id}/content")
+    ResponseEntity<StreamingResponseBody> streamPostContent(@PathVariable Long id) {
+        // 스트리밍 시작 전에 존재 여부를 확인해 404를 정상 응답으로 처리
+        String eTag = eTag(id, postService.findVersion(id));
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .contentType(new MediaType(MediaType.TEXT_PLAIN, StandardCharsets.UTF_8))
+                .body(out -> postService.copyContent(id, out));
+    }
+
+    // 전체 글 내보내기 (NDJSON, 마지막으로 받은 줄의 id를 after로 넘기면 이어서 받음), ADMIN 권한 필요 (SecurityConfig)
+    @GetMapping("/export")
+    ResponseEntity<StreamingResponseBody> exportPosts(@RequestParam(required = false) Long after,
+                                                      @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+                                                      HttpServletRequest request) {
+        // 이 요청만 응답 시간 제한을 늘림 (WebMvcConfig)
+        request.setAttribute(WebMvcConfig.ASYNC_TIMEOUT_ATTRIBUTE, bulkRequestTimeout);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (!acceptsGzip(acceptEncoding))
+            return response.body(out -> postExportService.export(after, out));
+
+        return response.header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                .body(out -> {
+                    // syncFlush: 청크마다 flush하면 압축된 내용까지 클라이언트로 내보냄
+                    GZIPOutputStream gzip = new GZIPOutputStream(out, 8192, true);
+                    postExportService.export(after, gzip);
+                    gzip.finish();
+                });
     }
 
     // 글 생성
     @PostMapping
     ResponseEntity<?> createPost(@RequestBody PostDto postDto) {
-        try {
-            return ResponseEntity.ok(postService.write(postDto, userUtil.getLoggedInUser()));
-        } catch (InputValidateException | TargetNotFoundException e) {
-            return errorMessage(e.getMessage());
-        }
+        return ResponseEntity.ok(postService.write(postDto, userUtil.getLoggedInUser()));
+    }
+
+    // 글 일괄 생성
+    @PostMapping("/batch")
+    ResponseEntity<?> createPosts(@RequestBody List<PostDto> postDtos) {
+        return ResponseEntity.ok(postService.writeAll(postDtos, userUtil.getLoggedInUser()));
+    }
+
+    // 글 대량 가져오기 (NDJSON 본문을 읽는 대로 저장, 진행 상황과 줄별 오류를 NDJSON으로 응답), ADMIN 권한 필요 (SecurityConfig)
+    @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_NDJSON_VALUE, "application/jsonl"})
+    ResponseEntity<StreamingResponseBody> importPosts(InputStream body, HttpServletRequest request) {
+        request.setAttribute(WebMvcConfig.ASYNC_TIMEOUT_ATTRIBUTE, bulkRequestTimeout);
+        // 인증 정보는 요청 스레드에만 있으므로 스트리밍 시작 전에 꺼냄
+        UserPrincipal user = userUtil.getLoggedInUser();
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(out -> postImportService.importPosts(body, out, user));
     }
 
     // 글 수정
     @PutMapping("/{id}")
-    ResponseEntity<?> editPost(@PathVariable Long id, @RequestBody PostEditDto editDto) {
-        try {
-            return ResponseEntity.ok(postService.edit(id, editDto, userUtil.getLoggedInUser()));
-        } catch (InputValidateException | TargetNotFoundException | PermissionException e) {
-            return errorMessage(e.getMessage());
-        }
+    ResponseEntity<?> editPost(@PathVariable Long id, @RequestBody PostEditDto editDto,
+                               @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        // If-Match에 조회 응답의 ETag를 보내면 그 사이 다른 수정이 있을 때 409
+        if (ifMatch != null && !ifMatch.trim().equals("*"))
+            editDto.setVersion(versionOf(id, ifMatch));
+        return ResponseEntity.ok(postService.edit(id, editDto, userUtil.getLoggedInUser()));
     }
 
     // 글 삭제
     @DeleteMapping("/{id}")
     ResponseEntity<?> deletePost(@PathVariable Long id) {
+        postService.delete(id, userUtil.getLoggedInUser());
+        return ResponseEntity.status(HttpStatus.OK).body("글 삭제 완료");
+    }
+
+    // 글 일괄 삭제
+    @DeleteMapping("/batch")
+    ResponseEntity<?> deletePosts(@RequestBody List<Long> ids) {
+        return ResponseEntity.ok(postService.deleteAll(ids, userUtil.getLoggedInUser()));
+    }
+
+    private static String eTag(Long id, Long version) {
+        return "\"" + id + "-" + (version == null ? 0 : version) + "\"";
+    }
+
+    // eTag(id, version) 형식만 허용
+    private static Long versionOf(Long id, String ifMatch) {
+        String value = ifMatch.trim();
+        String prefix = "\"" + id + "-";
+        if (!value.startsWith(prefix) || !value.endsWith("\"") || value.length() <= prefix.length() + 1)
+            throw new InputValidateException("validation error");
         try {
-            postService.delete(id, userUtil.getLoggedInUser());
-            return ResponseEntity.status(HttpStatus.OK).body("글 삭제 완료");
-        } catch (TargetNotFoundException | PermissionException e) {
-            return errorMessage(e.getMessage());
+            return Long.parseLong(value.substring(prefix.length(), value.length() - 1));
+        } catch (NumberFormatException e) {
+            throw new InputValidateException("validation error");
         }
     }
 
-    private static ResponseEntity<ExceptionResponse> errorMessage(String e) {
-        ExceptionResponse exceptionResponse = new ExceptionResponse(e);
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                .body(exceptionResponse);
+    private static boolean matchesETag(String ifNoneMatch, String eTag) {
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.equals("*") || value.equals(eTag) || value.equals("W/" + eTag))
+                return true;
+        }
+        return false;
+    }
+
+    // Accept-Encoding의 q 값 확인, gzip(또는 x-gzip)을 직접 지정했으면 그 값을, 아니면 * 의 값을 따름 (q=0은 거부)
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null)
+            return false;
+        Double gzip = null;
+        Double any = null;
+        for (String element : acceptEncoding.split(",")) {
+            String[] parts = element.split(";");
+            String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            double quality = 1;
+            for (int i = 1; i < parts.length; i++) {
+                String param = parts[i].trim();
+                if (param.length() > 2 && (param.charAt(0) == 'q' || param.charAt(0) == 'Q') && param.charAt(1) == '=') {
+                    try {
+                        quality = Double.parseDouble(param.substring(2).trim());
+                    } catch (NumberFormatException e) {
+                        quality = 0;
+                    }
+                }
+            }
+            if (coding.equals("gzip") || coding.equals("x-gzip"))
+                gzip = gzip == null ? quality : Math.max(gzip, quality);
+            else if (coding.equals("*"))
+                any = quality;
+        }
+        if (gzip != null)
+            return gzip > 0;
+        return any != null && any > 0;
     }
 }
@@ -0,0 +1,43 @@
+package umc.blog.controller;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import umc.blog.dto.RefreshTokenDto;
+import umc.blog.dto.TokenDto;
+import umc.blog.jwt.JwtFilter;
+import umc.blog.service.TokenService;
+import umc.blog.util.UserUtil;
+
+@RestController
+@RequestMapping("/token")
+public class TokenController {
+    private final TokenService tokenService;
+    private final UserUtil userUtil;
+
+    public TokenController(TokenService tokenService, UserUtil userUtil) {
+        this.tokenService = tokenService;
+        this.userUtil = userUtil;
+    }
+
+    // refresh token으로 새 토큰 쌍 발급 (비밀번호 검증 없음)
+    @PostMapping("/refresh")
+    public ResponseEntity<?> refresh(@RequestBody RefreshTokenDto refreshTokenDto) {
+        TokenDto tokens = tokenService.refresh(refreshTokenDto.getRefreshToken());
+        HttpHeaders httpHeaders = new HttpHeaders();
+        httpHeaders.add(JwtFilter.AUTHORIZATION_HEADER, "Bearer " + tokens.getToken());
+
+        return new ResponseEntity<>(tokens, httpHeaders, HttpStatus.OK);
+    }
+
+    // 로그아웃 (현재 access token과 refresh token 폐기)
+    @PostMapping("/revoke")
+    public ResponseEntity<?> revoke() {
+        tokenService.revoke(userUtil.getLoggedInUser());
+        return ResponseEntity.ok("로그아웃 완료");
+    }
+}
@@ -9,9 +9,6 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import umc.blog.dto.TokenDto;
 import umc.blog.dto.UserDto;
-import umc.blog.exception.ExceptionResponse;
-import umc.blog.exception.InputValidateException;
-import umc.blog.exception.UserAlreadyExistException;
 import umc.blog.jwt.JwtFilter;
 import umc.blog.service.UserService;
 
@@ -26,29 +23,15 @@ public class UserController {
 
     @PostMapping("/signup")
     public ResponseEntity<?> join(@RequestBody UserDto userDto) {
-        try {
-            return ResponseEntity.ok(userService.join(userDto));
-        } catch (InputValidateException | UserAlreadyExistException e) {
-            return errorMessage(e.getMessage());
-        }
+        return ResponseEntity.ok(userService.join(userDto));
     }
 
     @PostMapping("/login")
     public ResponseEntity<?> login(@RequestBody UserDto userDto) {
-        try {
-            String jwt = userService.login(userDto);
-            HttpHeaders httpHeaders = new HttpHeaders();
-            httpHeaders.add(JwtFilter.AUTHORIZATION_HEADER, "Bearer " + jwt);
+        TokenDto tokens = userService.login(userDto);
+        HttpHeaders httpHeaders = new HttpHeaders();
+        httpHeaders.add(JwtFilter.AUTHORIZATION_HEADER, "Bearer " + tokens.getToken());
 
-            return new ResponseEntity<>(new TokenDto(jwt), httpHeaders, HttpStatus.OK);
-        } catch (InputValidateException e) {
-            return errorMessage(e.getMessage());
-        }
-    }
-
-    private static ResponseEntity<ExceptionResponse> errorMessage(String e) {
-        ExceptionResponse exceptionResponse = new ExceptionResponse(e);
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                .body(exceptionResponse);
+        return new ResponseEntity<>(tokens, httpHeaders, HttpStatus.OK);
     }
 }
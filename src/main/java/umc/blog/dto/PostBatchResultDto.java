@@ -0,0 +1,14 @@
+package umc.blog.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class PostBatchResultDto {
+    // 요청 목록에서의 위치
+    private int index;
+    private Long id;
+    private boolean success;
+    private String message;
+}
@@ -1,9 +1,14 @@
 package umc.blog.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
+
+import java.time.Instant;
+
 @Getter
 @Setter
 @RequiredArgsConstructor
@@ -12,4 +17,24 @@ public class PostDto {
     private String title;
     private String writer;
     private String content;
+
+    // ETag / Last-Modified 헤더로만 노출
+    @JsonIgnore
+    private Long version;
+    @JsonIgnore
+    private Instant modifiedAt;
+
+    // 저장된 조회수, 표시 조회수는 버전이 바뀌지 않아도 변하므로 본문 대신 X-View-Count 헤더로 노출 (PostViewCounter)
+    @JsonIgnore
+    private Long viewCount;
+
+    // 단건 조회 응답에만 포함, content가 null이고 contentLength가 있으면 본문이 길어 생략된 것 (GET /post/{id}/content)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer contentLength;
+
+    public PostDto(String title, String writer, String content) {
+        this.title = title;
+        this.writer = writer;
+        this.content = content;
+    }
 }
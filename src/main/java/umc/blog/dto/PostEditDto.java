@@ -10,4 +10,7 @@ import lombok.Setter;
 public class PostEditDto {
     private String title;
     private String content;
+
+    // 수정 전에 조회한 버전 (If-Match 헤더가 있으면 그 값을 사용), 다르면 409
+    private Long version;
 }
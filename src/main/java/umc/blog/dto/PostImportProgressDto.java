@@ -0,0 +1,26 @@
+package umc.blog.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 가져오기 응답의 한 줄 (줄별 오류, 청크 커밋마다 진행 상황, 마지막 요약)
+@Getter
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PostImportProgressDto {
+    // 입력에서의 줄 번호 (진행 상황/요약은 마지막으로 커밋된 줄)
+    private long line;
+    private Long imported;
+    private Long failed;
+    private String error;
+    private Boolean done;
+
+    public static PostImportProgressDto error(long line, String error) {
+        return new PostImportProgressDto(line, null, null, error, null);
+    }
+
+    public static PostImportProgressDto progress(long line, long imported, long failed) {
+        return new PostImportProgressDto(line, imported, failed, null, null);
+    }
+}
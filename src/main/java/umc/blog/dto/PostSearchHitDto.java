@@ -0,0 +1,13 @@
+package umc.blog.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class PostSearchHitDto {
+    private Long id;
+    private String title;
+    private String writer;
+    private double score;
+}
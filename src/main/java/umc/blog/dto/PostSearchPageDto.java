@@ -0,0 +1,14 @@
+package umc.blog.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class PostSearchPageDto {
+    private List<PostSearchHitDto> hits;
+    // 다음 페이지 요청 시 cursor로 전달, 마지막 페이지면 null
+    private String nextCursor;
+}
@@ -0,0 +1,14 @@
+package umc.blog.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class PostSummaryDto {
+    private Long id;
+    private String title;
+    private String writer;
+    private String excerpt;
+    private Integer contentLength;
+}
@@ -0,0 +1,12 @@
+package umc.blog.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 조건부 조회(If-None-Match) 판단용 버전과 저장된 조회수
+@Getter
+@AllArgsConstructor
+public class PostVersionDto {
+    private Long version;
+    private Long viewCount;
+}
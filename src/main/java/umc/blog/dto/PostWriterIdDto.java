@@ -0,0 +1,7 @@
+package umc.blog.dto;
+
+public interface PostWriterIdDto {
+    Long getId();
+
+    Long getWriterId();
+}
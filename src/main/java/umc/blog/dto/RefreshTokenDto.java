@@ -0,0 +1,12 @@
+package umc.blog.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+
+@RequiredArgsConstructor
+@Getter
+@Setter
+public class RefreshTokenDto {
+    private String refreshToken;
+}
@@ -9,4 +9,5 @@ import lombok.Setter;
 @AllArgsConstructor
 public class TokenDto {
     private String token;
+    private String refreshToken;
 }
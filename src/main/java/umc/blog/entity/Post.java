@@ -2,6 +2,10 @@ package umc.blog.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.Instant;
 
 @Entity
 @Builder
@@ -11,7 +15,9 @@ import lombok.*;
 @AllArgsConstructor
 public class Post {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // IDENTITY 전략은 INSERT 배치를 막으므로 pooled 시퀀스 사용 (MySQL에서는 테이블로 대체되며 SequenceSeeder가 기존 id 위로 올림)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "post_seq")
+    @SequenceGenerator(name = "post_seq", sequenceName = "post_seq", allocationSize = 50)
     @Column(name = "post_id")
     Long id;
 
@@ -21,5 +27,39 @@ public class Post {
 
     String title;
 
+    // 엔티티로 읽으면 본문도 함께 읽힘 (바이트코드 향상 없이는 지연 로딩 불가), 목록/단건/검색 조회는 DTO 프로젝션으로 필요한 컬럼만 읽음
+    // 기존 VARCHAR(255) 컬럼은 ddl-auto=update로 바뀌지 않으므로 MySQL에서는 한 번 실행: ALTER TABLE post MODIFY content LONGBLOB
+    @Lob
+    @Convert(converter = PostContentConverter.class)
     String content;
+
+    String excerpt;
+
+    Integer contentLength;
+
+    @Version
+    Long version;
+
+    @UpdateTimestamp
+    Instant modifiedAt;
+
+    // PostViewCounter가 모아서 증가시키므로 엔티티 수정 시에는 덮어쓰지 않음
+    @ColumnDefault("0")
+    @Column(name = "view_count", nullable = false, updatable = false)
+    long viewCount;
+
+    public static final int EXCERPT_LENGTH = 200;
+
+    public static String excerptOf(String content) {
+        if (content == null || content.length() <= EXCERPT_LENGTH)
+            return content;
+        return content.substring(0, EXCERPT_LENGTH);
+    }
+
+    @PrePersist
+    @PreUpdate
+    void updateSummary() {
+        this.excerpt = excerptOf(content);
+        this.contentLength = content == null ? 0 : content.length();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,78 @@
+package umc.blog.entity;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+// 본문을 UTF-8 바이트로 저장, 임계값을 넘는 본문은 gzip 압축
+// 첫 바이트는 저장 형식 표시 (0: 원문, 1: gzip), 표시가 없으면 VARCHAR 시절에 저장된 원문
+@Converter
+public class PostContentConverter implements AttributeConverter<String, byte[]> {
+    private static final byte RAW = 0;
+    private static final byte GZIP = 1;
+    private static final int DEFAULT_COMPRESS_THRESHOLD_BYTES = 4096;
+
+    private final int compressThresholdBytes;
+
+    public PostContentConverter() {
+        this(DEFAULT_COMPRESS_THRESHOLD_BYTES);
+    }
+
+    // 0 이하이면 압축하지 않음
+    @Autowired
+    public PostContentConverter(@Value("${post.content.compress-threshold-bytes:4096}") int compressThresholdBytes) {
+        this.compressThresholdBytes = compressThresholdBytes;
+    }
+
+    @Override
+    public byte[] convertToDatabaseColumn(String content) {
+        if (content == null)
+            return null;
+
+        byte[] raw = content.getBytes(StandardCharsets.UTF_8);
+        ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length + 1);
+        try {
+            if (compressThresholdBytes > 0 && raw.length > compressThresholdBytes) {
+                out.write(GZIP);
+                try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+                    gzip.write(raw);
+                }
+            } else {
+                out.write(RAW);
+                out.write(raw);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    @Override
+    public String convertToEntityAttribute(byte[] stored) {
+        if (stored == null)
+            return null;
+
+        try (InputStream in = openStream(new ByteArrayInputStream(stored))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 저장된 컬럼 스트림을 원문 UTF-8 스트림으로 변환 (전체를 메모리에 올리지 않음)
+    public static InputStream openStream(InputStream stored) throws IOException {
+        int format = stored.read();
+        if (format == GZIP)
+            return new GZIPInputStream(stored);
+        if (format == RAW || format == -1)
+            return stored;
+        // 0x00/0x01로 시작하는 본문은 없으므로 표시 없는 기존 데이터로 보고 첫 바이트를 되돌림
+        return new SequenceInputStream(new ByteArrayInputStream(new byte[]{(byte) format}), stored);
+    }
+}
@@ -0,0 +1,44 @@
+package umc.blog.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+// 글 변경 이벤트 outbox, 글 변경과 같은 트랜잭션에서 기록되고 PostEventRelay가 구독자에게 전달
+@Entity
+@Builder
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "post_event", indexes = {
+        @Index(name = "ix_post_event_created_at", columnList = "created_at, post_event_id"),
+        @Index(name = "ux_post_event_relay_seq", columnList = "relay_seq", unique = true)
+})
+public class PostEvent {
+    @Id
+    // 일괄 작성 시 글과 함께 JDBC 배치로 INSERT되도록 pooled 시퀀스 사용
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "post_event_seq")
+    @SequenceGenerator(name = "post_event_seq", sequenceName = "post_event_seq", allocationSize = 50)
+    @Column(name = "post_event_id")
+    Long id;
+
+    @Column(name = "post_id", nullable = false)
+    Long postId;
+
+    // IMPORTED 이벤트에서만 사용, 범위의 마지막 글 id
+    @Column(name = "last_post_id")
+    Long lastPostId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    PostEventType type;
+
+    @Column(name = "created_at", nullable = false)
+    Instant createdAt;
+
+    // 커밋된 뒤 PostEventRelay가 발급하는 전달 순서, 발급 전(null)에는 전달되지 않음
+    @Setter
+    @Column(name = "relay_seq")
+    Long relaySeq;
+}
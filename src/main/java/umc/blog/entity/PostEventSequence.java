@@ -0,0 +1,22 @@
+package umc.blog.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// post_event.relay_seq의 마지막 발급 값 (행 하나), 이 행을 잠근 트랜잭션만 발급하므로 relay_seq는 커밋 순서대로 증가
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "post_event_sequence")
+public class PostEventSequence {
+    public static final Long ID = 1L;
+
+    @Id
+    @Column(name = "post_event_sequence_id")
+    Long id;
+
+    @Column(name = "last_seq", nullable = false)
+    long lastSeq;
+}
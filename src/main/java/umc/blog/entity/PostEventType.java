@@ -0,0 +1,7 @@
+package umc.blog.entity;
+
+public enum PostEventType {
+    CREATED, UPDATED, DELETED,
+    // 대량 가져오기 청크 하나 (post_id ~ last_post_id 범위를 한 번에 색인)
+    IMPORTED
+}
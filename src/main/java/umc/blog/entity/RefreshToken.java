@@ -0,0 +1,41 @@
+package umc.blog.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+// refresh token 원문은 저장하지 않고 해시만 저장
+@Entity
+@Builder
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(indexes = {
+        @Index(name = "ux_refresh_token_token_hash", columnList = "token_hash", unique = true),
+        @Index(name = "ix_refresh_token_access_token_id", columnList = "access_token_id"),
+        @Index(name = "ix_refresh_token_expires_at", columnList = "expires_at")
+})
+public class RefreshToken {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "refresh_token_id")
+    Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id")
+    private User user;
+
+    @Column(name = "token_hash", nullable = false, length = 64)
+    String tokenHash;
+
+    // 함께 발급된 access token의 jti
+    @Column(name = "access_token_id", length = 36)
+    String accessTokenId;
+
+    @Column(name = "expires_at", nullable = false)
+    Instant expiresAt;
+
+    boolean revoked;
+}
@@ -0,0 +1,22 @@
+package umc.blog.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// primary에 주기적으로 기록하는 시각 (행 하나), replica에서 읽은 값과 비교해 복제 지연을 계산 (ReplicaLagMonitor)
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "replica_heartbeat")
+public class ReplicaHeartbeat {
+    public static final Integer ID = 1;
+
+    @Id
+    @Column(name = "id")
+    Integer id;
+
+    @Column(name = "beat_at", nullable = false)
+    long beatAt;
+}
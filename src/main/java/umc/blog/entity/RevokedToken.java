@@ -0,0 +1,28 @@
+package umc.blog.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+// 만료 전에 폐기된 access token (jti), 만료 시각이 지나면 정리됨
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(indexes = {
+        @Index(name = "ix_revoked_token_revoked_at", columnList = "revoked_at"),
+        @Index(name = "ix_revoked_token_expires_at", columnList = "expires_at")
+})
+public class RevokedToken {
+    @Id
+    @Column(name = "token_id", length = 36)
+    String tokenId;
+
+    @Column(name = "expires_at", nullable = false)
+    Instant expiresAt;
+
+    @Column(name = "revoked_at", nullable = false)
+    Instant revokedAt;
+}
@@ -4,11 +4,19 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.text.Normalizer;
+import java.util.Locale;
+
 @Entity
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
+@Table(indexes = {
+        @Index(name = "ux_user_username_normalized", columnList = "username_normalized", unique = true),
+        // 정규화 값이 없는 기존 유저의 로그인 조회용 (CustomUserDetailsService)
+        @Index(name = "ix_user_username", columnList = "username")
+})
 public class User {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -20,8 +28,26 @@ public class User {
     @JsonIgnore
     String password;
 
+    // 중복 검사와 로그인 조회용 (대소문자, 유니코드 호환 문자 정규화)
+    @JsonIgnore
+    @Column(name = "username_normalized")
+    String usernameNormalized;
+
     public User(String username, String password) {
         this.username = username;
+        this.usernameNormalized = normalize(username);
         this.password = password;
     }
+
+    @PrePersist
+    @PreUpdate
+    void updateUsernameNormalized() {
+        this.usernameNormalized = normalize(username);
+    }
+
+    public static String normalize(String username) {
+        if (username == null)
+            return null;
+        return Normalizer.normalize(username.strip(), Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
 }
@@ -0,0 +1,8 @@
+package umc.blog.exception;
+
+// 예상 가능한 도메인 오류의 공통 부모, 응답 코드로만 처리되므로 스택 트레이스를 수집하지 않음
+public abstract class DomainException extends RuntimeException {
+    protected DomainException(String message) {
+        super(message, null, false, false);
+    }
+}
@@ -0,0 +1,60 @@
+package umc.blog.exception;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+@RestControllerAdvice
+public class GlobalExceptionHandler {
+
+    @ExceptionHandler(InputValidateException.class)
+    public ResponseEntity<ExceptionResponse> handleInputValidate(InputValidateException e) {
+        return errorMessage(HttpStatus.BAD_REQUEST, e.getMessage());
+    }
+
+    @ExceptionHandler(TargetNotFoundException.class)
+    public ResponseEntity<ExceptionResponse> handleTargetNotFound(TargetNotFoundException e) {
+        return errorMessage(HttpStatus.NOT_FOUND, e.getMessage());
+    }
+
+    @ExceptionHandler(PermissionException.class)
+    public ResponseEntity<ExceptionResponse> handlePermission(PermissionException e) {
+        return errorMessage(HttpStatus.FORBIDDEN, e.getMessage());
+    }
+
+    @ExceptionHandler(UserAlreadyExistException.class)
+    public ResponseEntity<ExceptionResponse> handleUserAlreadyExist(UserAlreadyExistException e) {
+        return errorMessage(HttpStatus.CONFLICT, e.getMessage());
+    }
+
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<ExceptionResponse> handleOptimisticLockingFailure(ObjectOptimisticLockingFailureException e) {
+        return errorMessage(HttpStatus.CONFLICT, "다른 요청에 의해 이미 수정되었습니다.");
+    }
+
+    @ExceptionHandler(InvalidTokenException.class)
+    public ResponseEntity<ExceptionResponse> handleInvalidToken(InvalidTokenException e) {
+        return errorMessage(HttpStatus.UNAUTHORIZED, e.getMessage());
+    }
+
+    @ExceptionHandler(AuthenticationException.class)
+    public ResponseEntity<ExceptionResponse> handleAuthentication(AuthenticationException e) {
+        return errorMessage(HttpStatus.UNAUTHORIZED, "아이디 또는 비밀번호가 올바르지 않습니다.");
+    }
+
+    @ExceptionHandler(ServerBusyException.class)
+    public ResponseEntity<ExceptionResponse> handleServerBusy(ServerBusyException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(new ExceptionResponse(e.getMessage()));
+    }
+
+    private static ResponseEntity<ExceptionResponse> errorMessage(HttpStatus status, String message) {
+        return ResponseEntity.status(status)
+                .body(new ExceptionResponse(message));
+    }
+}
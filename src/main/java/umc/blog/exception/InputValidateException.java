@@ -1,7 +1,8 @@
 package umc.blog.exception;
 
-public class InputValidateException extends RuntimeException {
+public class InputValidateException extends DomainException {
     public InputValidateException() {
+        this(null);
     }
 
     public InputValidateException(String message) {
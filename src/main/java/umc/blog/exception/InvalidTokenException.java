@@ -0,0 +1,11 @@
+package umc.blog.exception;
+
+public class InvalidTokenException extends DomainException {
+    public InvalidTokenException() {
+        this(null);
+    }
+
+    public InvalidTokenException(String message) {
+        super(message);
+    }
+}
@@ -1,7 +1,8 @@
 package umc.blog.exception;
 
-public class PermissionException extends RuntimeException {
+public class PermissionException extends DomainException {
     public PermissionException() {
+        this(null);
     }
 
     public PermissionException(String message) {
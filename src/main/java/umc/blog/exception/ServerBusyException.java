@@ -0,0 +1,14 @@
+package umc.blog.exception;
+
+import lombok.Getter;
+
+// 처리 대기열이 가득 찬 경우, 클라이언트에 재시도 시점을 알려줌
+@Getter
+public class ServerBusyException extends DomainException {
+    private final long retryAfterSeconds;
+
+    public ServerBusyException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
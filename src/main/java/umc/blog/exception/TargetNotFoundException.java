@@ -1,7 +1,8 @@
 package umc.blog.exception;
 
-public class TargetNotFoundException extends RuntimeException {
+public class TargetNotFoundException extends DomainException {
     public TargetNotFoundException() {
+        this(null);
     }
 
     public TargetNotFoundException(String message) {
@@ -1,7 +1,8 @@
 package umc.blog.exception;
 
-public class UserAlreadyExistException extends RuntimeException {
+public class UserAlreadyExistException extends DomainException {
     public UserAlreadyExistException() {
+        this(null);
     }
 
     public UserAlreadyExistException(String message) {
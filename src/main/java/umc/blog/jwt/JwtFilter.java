@@ -8,40 +8,56 @@ import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.GenericFilterBean;
 import java.io.IOException;
 
+// 보안 필터 체인에만 등록 (JwtSecurityConfig), 빈으로 만들면 서블릿 필터로 한 번 더 실행됨
 @Slf4j
-@Component
 public class JwtFilter extends GenericFilterBean {
 
     public static final String AUTHORIZATION_HEADER = "Authorization";
+    // 보안 컨텍스트가 정리된 뒤에도 접근 로그에서 사용할 수 있도록 요청 속성으로 전달
+    public static final String USER_ID_ATTRIBUTE = JwtFilter.class.getName() + ".userId";
     private final TokenProvider tokenProvider;
+    private final TokenDenylist tokenDenylist;
 
-    public JwtFilter(TokenProvider tokenProvider) {
+    public JwtFilter(TokenProvider tokenProvider, TokenDenylist tokenDenylist) {
         this.tokenProvider = tokenProvider;
+        this.tokenDenylist = tokenDenylist;
     }
 
     @Override
-    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException, ServletException, IOException {
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
         HttpServletRequest httpServletRequest = (HttpServletRequest) request;
         String jwt = resolveToken(httpServletRequest);
-        String requestURI = httpServletRequest.getRequestURI();
 
-        if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)) {
-            Authentication authentication = tokenProvider.getAuthentication(jwt);
+        Authentication authentication = StringUtils.hasText(jwt) ? tokenProvider.authenticate(jwt) : null;
+        // 폐기된 토큰은 서명이 유효해도 인증하지 않음 (메모리 조회만 수행)
+        if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal principal
+                && tokenDenylist.isRevoked(principal.getTokenId())) {
+            if (log.isDebugEnabled())
+                log.debug("폐기된 JWT 토큰 {}, uri = {}", redact(jwt), httpServletRequest.getRequestURI());
+            authentication = null;
+        }
+
+        if (authentication != null) {
             SecurityContextHolder.getContext().setAuthentication(authentication);
-            log.info("Security Context에 '{}' 인증 정보 저장, uri = {}", authentication.getName(), requestURI);
-        } else {
-            log.info(jwt);
-            log.info("유효한 JWT 토큰 없음, uri = {}", requestURI);
-            // throw new TargetNotFoundException("유저가 식별되지 않았습니다.");
+            if (authentication.getPrincipal() instanceof UserPrincipal principal)
+                request.setAttribute(USER_ID_ATTRIBUTE, principal.getId());
+            if (log.isDebugEnabled())
+                log.debug("Security Context에 '{}' 인증 정보 저장, uri = {}", authentication.getName(), httpServletRequest.getRequestURI());
+        } else if (jwt != null && log.isDebugEnabled()) {
+            log.debug("유효한 JWT 토큰 없음 {}, uri = {}", redact(jwt), httpServletRequest.getRequestURI());
         }
         chain.doFilter(request, response);
     }
 
+    // 토큰 원문 대신 다이제스트 앞부분만 남겨 같은 토큰끼리 구분만 가능하게 함
+    static String redact(String jwt) {
+        return "sha256:" + TokenProvider.digest(jwt).substring(0, 12);
+    }
+
     private String resolveToken(HttpServletRequest request) {
         String bearerToken = request.getHeader(AUTHORIZATION_HEADER);
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
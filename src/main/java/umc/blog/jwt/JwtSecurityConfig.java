@@ -4,18 +4,25 @@ import org.springframework.security.config.annotation.SecurityConfigurerAdapter;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.web.DefaultSecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import umc.blog.ratelimit.RateLimitFilter;
 
 public class JwtSecurityConfig extends SecurityConfigurerAdapter<DefaultSecurityFilterChain, HttpSecurity> {
 
     private TokenProvider tokenProvider;
+    private TokenDenylist tokenDenylist;
+    private RateLimitFilter rateLimitFilter;
 
-    public JwtSecurityConfig(TokenProvider tokenProvider) {
+    public JwtSecurityConfig(TokenProvider tokenProvider, TokenDenylist tokenDenylist, RateLimitFilter rateLimitFilter) {
         this.tokenProvider = tokenProvider;
+        this.tokenDenylist = tokenDenylist;
+        this.rateLimitFilter = rateLimitFilter;
     }
 
     @Override
     public void configure(HttpSecurity http) {
-        JwtFilter customFilter = new JwtFilter(tokenProvider);
+        JwtFilter customFilter = new JwtFilter(tokenProvider, tokenDenylist);
         http.addFilterBefore(customFilter, UsernamePasswordAuthenticationFilter.class);
+        // 인증 정보(유저 id)를 키로 쓰기 위해 JwtFilter 다음에 실행
+        http.addFilterAfter(rateLimitFilter, JwtFilter.class);
     }
 }
\ No newline at end of file
@@ -0,0 +1,63 @@
+package umc.blog.jwt;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 폐기된 access token(jti) 목록
+// 대부분의 요청은 Bloom filter에서 바로 통과하고, 양성일 때만 정확한 집합을 확인 (DB 조회 없음)
+@Component
+public class TokenDenylist {
+    private final int expectedInsertions;
+    private final double falsePositiveRate;
+    private final Map<String, Long> revokedTokens = new ConcurrentHashMap<>();
+    private volatile BloomFilter bloomFilter;
+    // 현재 Bloom filter가 오탐률을 지킬 수 있는 항목 수, 넘으면 두 배로 늘려 재구성 (재구성 비용은 항목당 상수로 분산)
+    private int capacity;
+
+    public TokenDenylist(@Value("${jwt.denylist.expected-insertions:100000}") int expectedInsertions,
+                         @Value("${jwt.denylist.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.capacity = expectedInsertions;
+        this.bloomFilter = new BloomFilter(capacity, falsePositiveRate);
+    }
+
+    public boolean isRevoked(String tokenId) {
+        if (tokenId == null || !bloomFilter.mightContain(tokenId))
+            return false;
+        return revokedTokens.containsKey(tokenId);
+    }
+
+    public synchronized void revoke(String tokenId, long expiresAtMillis) {
+        revokedTokens.put(tokenId, expiresAtMillis);
+        bloomFilter.add(tokenId);
+        if (revokedTokens.size() > capacity) {
+            capacity = (int) Math.min(Integer.MAX_VALUE, capacity * 2L);
+            rebuild();
+        }
+    }
+
+    // 만료된 항목을 제거하고 Bloom filter를 다시 만듦
+    public synchronized void sweep(long nowMillis) {
+        revokedTokens.values().removeIf(expiresAtMillis -> expiresAtMillis <= nowMillis);
+        capacity = (int) Math.min(Integer.MAX_VALUE, Math.max(expectedInsertions, revokedTokens.size() * 2L));
+        rebuild();
+    }
+
+    public int size() {
+        return revokedTokens.size();
+    }
+
+    public synchronized int capacity() {
+        return capacity;
+    }
+
+    private void rebuild() {
+        BloomFilter rebuilt = new BloomFilter(capacity, falsePositiveRate);
+        revokedTokens.keySet().forEach(rebuilt::add);
+        bloomFilter = rebuilt;
+    }
+}
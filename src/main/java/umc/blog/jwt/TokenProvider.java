@@ -1,8 +1,13 @@
 package umc.blog.jwt;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Value;
@@ -11,13 +16,19 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.userdetails.User;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.Collection;
 import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -26,25 +37,51 @@ import java.util.stream.Collectors;
 public class TokenProvider implements InitializingBean {
 
     private static final String AUTHORITIES_KEY = "auth";
+    private static final String USER_ID_KEY = "user_id";
     private final String secret;
     private final long tokenValidityInMilliseconds;
+    private final long verifiedTokenCacheSize;
+
+    // 검증 결과별 카운터 (jwt.validation{outcome=...})
+    private final Counter validCounter = validationCounter("valid");
+    private final Counter cacheHitCounter = validationCounter("cache_hit");
+    private final Counter badSignatureCounter = validationCounter("bad_signature");
+    private final Counter malformedCounter = validationCounter("malformed");
+    private final Counter expiredCounter = validationCounter("expired");
+    private final Counter unsupportedCounter = validationCounter("unsupported");
+    private final Counter invalidCounter = validationCounter("invalid");
 
     private Key key;
+    private JwtParser jwtParser;
+    private Cache<String, VerifiedToken> verifiedTokens;
 
     public TokenProvider(
             @Value("${jwt.secret}") String secret,
-            @Value("${jwt.token-validity-in-seconds}") long tokenValidityInMilliseconds) {
+            @Value("${jwt.token-validity-in-seconds}") long tokenValidityInMilliseconds,
+            @Value("${jwt.verified-token-cache-size:10000}") long verifiedTokenCacheSize) {
         this.secret = secret;
         this.tokenValidityInMilliseconds = tokenValidityInMilliseconds * 1000;
+        this.verifiedTokenCacheSize = verifiedTokenCacheSize;
     }
 
     @Override
     public void afterPropertiesSet() throws Exception {
         byte[] keyBytes = Decoders.BASE64URL.decode(secret);
         this.key = Keys.hmacShaKeyFor(keyBytes);
+        // JwtParser는 불변 객체라 스레드 간 공유 가능
+        this.jwtParser = Jwts.parserBuilder().setSigningKey(key).build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedTokenCacheSize)
+                .expireAfter(new VerifiedTokenExpiry())
+                .build();
+    }
+
+    public String createToken(Authentication authentication, Long userId) {
+        return createToken(authentication, userId, UUID.randomUUID().toString());
     }
 
-    public String createToken(Authentication authentication, umc.blog.entity.User user) {
+    // tokenId(jti)는 폐기 시 denylist 키로 사용
+    public String createToken(Authentication authentication, Long userId, String tokenId) {
         String authorities = authentication.getAuthorities().stream()
                 .map(GrantedAuthority::getAuthority)
                 .collect(Collectors.joining(","));
@@ -52,43 +89,119 @@ public class TokenProvider implements InitializingBean {
         Date validity = new Date(now + this.tokenValidityInMilliseconds);
 
         return Jwts.builder()
+                .setId(tokenId)
                 .setSubject(authentication.getName())
                 .claim(AUTHORITIES_KEY, authorities)
-                .claim("user_id", user.getId())
+                .claim(USER_ID_KEY, userId)
                 .signWith(key, SignatureAlgorithm.HS512)
                 .setExpiration(validity)
                 .compact();
     }
 
+    public long getTokenValidityInMilliseconds() {
+        return tokenValidityInMilliseconds;
+    }
+
+    // 서명 검증과 인증 정보 추출을 한 번에 수행, 유효하지 않으면 null
+    // 검증된 토큰은 만료 시각까지 캐시되어 같은 토큰의 재요청은 서명 검증을 건너뜀
+    public Authentication authenticate(String token) {
+        String digest = digest(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null) {
+            cacheHitCounter.increment();
+            return cached.authentication();
+        }
+
+        Claims claims = parseClaims(token);
+        if (claims == null)
+            return null;
+
+        Authentication authentication = toAuthentication(claims, token);
+        if (claims.getExpiration() != null)
+            verifiedTokens.put(digest, new VerifiedToken(authentication, claims.getExpiration().getTime()));
+        return authentication;
+    }
+
     public Authentication getAuthentication(String token) {
-        Claims claims = Jwts
-                .parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return toAuthentication(jwtParser.parseClaimsJws(token).getBody(), token);
+    }
+
+    public boolean validateToken(String token) {
+        return parseClaims(token) != null;
+    }
+
+    private Claims parseClaims(String token) {
+        try {
+            Claims claims = jwtParser.parseClaimsJws(token).getBody();
+            validCounter.increment();
+            return claims;
+        } catch (io.jsonwebtoken.security.SecurityException e) {
+            badSignatureCounter.increment();
+            log.debug("잘못된 JWT 서명");
+        } catch (MalformedJwtException e) {
+            malformedCounter.increment();
+            log.debug("잘못된 형식의 JWT");
+        } catch (ExpiredJwtException e) {
+            expiredCounter.increment();
+            log.debug("만료된 JWT 서명");
+        } catch (UnsupportedJwtException e) {
+            unsupportedCounter.increment();
+            log.debug("지원되지 않는 JWT 토큰");
+        } catch (IllegalArgumentException e) {
+            invalidCounter.increment();
+            log.debug("JWT 토큰이 잘못됨");
+        }
+        return null;
+    }
+
+    private Authentication toAuthentication(Claims claims, String token) {
         Collection<? extends GrantedAuthority> authorities =
                 Arrays.stream(claims.get(AUTHORITIES_KEY).toString().split(","))
                         .map(SimpleGrantedAuthority::new)
                         .collect(Collectors.toList());
-        User principal = new User(claims.getSubject(), "", authorities);
+        Instant expiresAt = claims.getExpiration() == null ? null : claims.getExpiration().toInstant();
+        UserPrincipal principal = new UserPrincipal(((Number) claims.get(USER_ID_KEY)).longValue(),
+                claims.getSubject(), claims.getId(), expiresAt);
 
         return new UsernamePasswordAuthenticationToken(principal, token, authorities);
     }
 
-    public boolean validateToken(String token) {
+    private static Counter validationCounter(String outcome) {
+        return Counter.builder("jwt.validation")
+                .description("JWT 검증 결과")
+                .tag("outcome", outcome)
+                .register(Metrics.globalRegistry);
+    }
+
+    // 캐시 키로 원본 토큰 대신 SHA-256 다이제스트 사용
+    public static String digest(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
-        } catch (io.jsonwebtoken.security.SecurityException | MalformedJwtException e) {
-            log.info("잘못된 JWT 서명");
-        } catch (ExpiredJwtException e) {
-            log.info("만료된 JWT 서명");
-        } catch (UnsupportedJwtException e) {
-            log.info("지원되지 않는 JWT 토큰");
-        } catch (IllegalArgumentException e) {
-            log.info("JWT 토큰이 잘못됨");
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record VerifiedToken(Authentication authentication, long expiresAtMillis) {
+    }
+
+    // 토큰의 exp 시각에 캐시에서 제거
+    private static class VerifiedTokenExpiry implements Expiry<String, VerifiedToken> {
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            long remainingMillis = value.expiresAtMillis() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
         }
-        return false;
     }
 }
@@ -0,0 +1,27 @@
+package umc.blog.jwt;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.security.core.AuthenticatedPrincipal;
+
+import java.time.Instant;
+
+// JWT 클레임으로부터 복원한 로그인 유저 (DB 조회 없음)
+@Getter
+@AllArgsConstructor
+public class UserPrincipal implements AuthenticatedPrincipal {
+    private final Long id;
+    private final String username;
+    // 토큰 폐기 시 사용하는 jti와 만료 시각
+    private final String tokenId;
+    private final Instant tokenExpiresAt;
+
+    public UserPrincipal(Long id, String username) {
+        this(id, username, null, null);
+    }
+
+    @Override
+    public String getName() {
+        return username;
+    }
+}
@@ -0,0 +1,129 @@
+package umc.blog.logging;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import umc.blog.jwt.JwtFilter;
+import umc.blog.metrics.RequestMetricsFilter;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// 요청마다 JSON 한 줄을 ACCESS 로거로 기록 (logback-spring.xml에서 비동기 appender를 거쳐 파일로 기록)
+// 요청 스레드는 큐에 넣기만 하고, 큐가 가득 차면 기다리지 않고 버림
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "access-log.enabled", havingValue = "true", matchIfMissing = true)
+public class AccessLogFilter extends OncePerRequestFilter {
+    private static final Logger accessLog = LoggerFactory.getLogger("ACCESS");
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (!accessLog.isInfoEnabled()) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        long startNanos = System.nanoTime();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            // StreamingResponseBody 등 비동기 응답은 응답이 끝난 시점에 기록
+            // 시간 초과/오류 뒤에도 컨테이너가 onComplete를 부를 수 있으므로 먼저 도착한 콜백에서 한 번만 기록
+            if (request.isAsyncStarted()) {
+                AtomicBoolean logged = new AtomicBoolean();
+                request.getAsyncContext().addListener(new AsyncListener() {
+                    @Override
+                    public void onComplete(AsyncEvent event) {
+                        if (logged.compareAndSet(false, true))
+                            log(request, response, startNanos, null);
+                    }
+
+                    @Override
+                    public void onTimeout(AsyncEvent event) {
+                        if (logged.compareAndSet(false, true))
+                            log(request, response, startNanos, "timeout");
+                    }
+
+                    @Override
+                    public void onError(AsyncEvent event) {
+                        if (logged.compareAndSet(false, true))
+                            log(request, response, startNanos, "error");
+                    }
+
+                    @Override
+                    public void onStartAsync(AsyncEvent event) {
+                    }
+                });
+            } else {
+                log(request, response, startNanos, null);
+            }
+        }
+    }
+
+    // asyncOutcome: 비동기 응답이 시간 초과/오류로 끝난 경우 (status는 이미 보낸 값일 수 있음)
+    private static void log(HttpServletRequest request, HttpServletResponse response, long startNanos, String asyncOutcome) {
+        long latencyMicros = (System.nanoTime() - startNanos) / 1_000;
+        StringBuilder line = new StringBuilder(256);
+        line.append("{\"ts\":\"").append(Instant.now()).append('"');
+        line.append(",\"method\":\"").append(request.getMethod()).append('"');
+        appendString(line.append(",\"route\":"), RequestMetricsFilter.route(request));
+        appendString(line.append(",\"path\":"), request.getRequestURI());
+        line.append(",\"status\":").append(response.getStatus());
+        if (asyncOutcome != null)
+            line.append(",\"outcome\":\"").append(asyncOutcome).append('"');
+        line.append(",\"latency_ms\":").append(latencyMicros / 1000).append('.');
+        long fraction = latencyMicros % 1000;
+        if (fraction < 100)
+            line.append('0');
+        if (fraction < 10)
+            line.append('0');
+        line.append(fraction);
+        Object userId = request.getAttribute(JwtFilter.USER_ID_ATTRIBUTE);
+        line.append(",\"user_id\":").append(userId != null ? userId : "null");
+        Object queries = request.getAttribute(RequestMetricsFilter.QUERY_COUNT_ATTRIBUTE);
+        if (queries != null)
+            line.append(",\"queries\":").append(queries);
+        appendString(line.append(",\"remote_addr\":"), request.getRemoteAddr());
+        line.append('}');
+        accessLog.info(line.toString());
+    }
+
+    // JSON 문자열 이스케이프 (경로에 따옴표나 제어 문자가 들어올 수 있음)
+    private static void appendString(StringBuilder line, String value) {
+        if (value == null) {
+            line.append("null");
+            return;
+        }
+        line.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> line.append("\\\"");
+                case '\\' -> line.append("\\\\");
+                case '\n' -> line.append("\\n");
+                case '\r' -> line.append("\\r");
+                case '\t' -> line.append("\\t");
+                default -> {
+                    if (c < 0x20)
+                        line.append(String.format("\\u%04x", (int) c));
+                    else
+                        line.append(c);
+                }
+            }
+        }
+        line.append('"');
+    }
+}
@@ -0,0 +1,32 @@
+package umc.blog.metrics;
+
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+
+import java.util.concurrent.Callable;
+
+// StreamingResponseBody 등 비동기 처리 스레드에서 실행된 SQL도 요청의 SQL 수에 포함
+// QueryCounter는 스레드 기준이라 처리 스레드에서 따로 집계한 뒤 RequestMetricsFilter가 둔 합계에 더함
+public class AsyncQueryCountingInterceptor implements CallableProcessingInterceptor {
+
+    @Override
+    public <T> void preProcess(NativeWebRequest request, Callable<T> task) {
+        RequestQueries queries = queries(request);
+        if (queries != null)
+            QueryCounter.start(queries.captureShapes());
+    }
+
+    // 작업이 예외로 끝나도 호출됨
+    @Override
+    public <T> void postProcess(NativeWebRequest request, Callable<T> task, Object concurrentResult) {
+        RequestQueries queries = queries(request);
+        if (queries != null)
+            queries.add(QueryCounter.stop());
+    }
+
+    private static RequestQueries queries(NativeWebRequest request) {
+        Object queries = request.getAttribute(RequestMetricsFilter.QUERIES_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        return queries instanceof RequestQueries requestQueries ? requestQueries : null;
+    }
+}
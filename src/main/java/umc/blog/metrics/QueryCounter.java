@@ -0,0 +1,79 @@
+package umc.blog.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+// Hibernate가 실행하는 SQL 수를 현재 스레드 기준으로 집계 (요청 단위 측정, 테스트 검증용)
+// captureShapes가 켜진 경우에만 SQL 형태(파라미터/IN 목록 정규화)별 실행 횟수를 함께 기록
+public class QueryCounter implements StatementInspector {
+    private static final ThreadLocal<Counter> CURRENT = new ThreadLocal<>();
+    private static final int MAX_SHAPES = 50;
+    private static final String OTHER_SHAPES = "(기타)";
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("(?<![\\w.])\\d+(?![\\w.])");
+
+    @Override
+    public String inspect(String sql) {
+        Counter counter = CURRENT.get();
+        if (counter != null) {
+            counter.count++;
+            if (counter.shapes != null)
+                counter.record(shapeOf(sql));
+        }
+        return sql;
+    }
+
+    // 이미 집계 중이면 새 집계로 대체됨 (중첩 불가)
+    public static void start(boolean captureShapes) {
+        CURRENT.set(new Counter(captureShapes));
+    }
+
+    public static void start() {
+        start(false);
+    }
+
+    // 집계를 끝내고 결과를 반환, 시작하지 않았으면 빈 결과
+    public static Snapshot stop() {
+        Counter counter = CURRENT.get();
+        CURRENT.remove();
+        if (counter == null)
+            return new Snapshot(0, Collections.emptyMap());
+        return new Snapshot(counter.count,
+                counter.shapes == null ? Collections.emptyMap() : Collections.unmodifiableMap(counter.shapes));
+    }
+
+    public static int current() {
+        Counter counter = CURRENT.get();
+        return counter == null ? 0 : counter.count;
+    }
+
+    // 값과 IN 목록 길이가 달라도 같은 형태로 묶이도록 정규화
+    static String shapeOf(String sql) {
+        String shape = WHITESPACE.matcher(sql.trim()).replaceAll(" ");
+        shape = IN_LIST.matcher(shape).replaceAll("(?...)");
+        return NUMBER_LITERAL.matcher(shape).replaceAll("?");
+    }
+
+    public record Snapshot(int statements, Map<String, Integer> shapes) {
+    }
+
+    private static class Counter {
+        private int count;
+        private final Map<String, Integer> shapes;
+
+        private Counter(boolean captureShapes) {
+            this.shapes = captureShapes ? new LinkedHashMap<>() : null;
+        }
+
+        private void record(String shape) {
+            if (shapes.size() >= MAX_SHAPES && !shapes.containsKey(shape))
+                shape = OTHER_SHAPES;
+            shapes.merge(shape, 1, Integer::sum);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package umc.blog.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Metrics;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+// 요청마다 실행된 SQL 수를 경로(패턴)별 분포로 기록, 응답 시간은 actuator의 http.server.requests 사용
+// 비동기 응답(StreamingResponseBody)은 처리 스레드의 SQL까지 더해 응답이 끝난 시점에 기록 (AsyncQueryCountingInterceptor)
+// 문장 수가 예산을 넘으면 카운터를 올리고, 샘플링된 요청은 SQL 형태와 함께 경고 로그를 남김
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class RequestMetricsFilter extends OncePerRequestFilter {
+    // 접근 로그에서 사용
+    public static final String QUERY_COUNT_ATTRIBUTE = RequestMetricsFilter.class.getName() + ".queryCount";
+    static final String QUERIES_ATTRIBUTE = RequestMetricsFilter.class.getName() + ".queries";
+    private static final int LOGGED_SHAPES = 10;
+
+    private final int statementBudget;
+    private final double sampleRate;
+
+    public RequestMetricsFilter(@Value("${query.budget.statements:10}") int statementBudget,
+                                @Value("${query.budget.sample-rate:0.1}") double sampleRate) {
+        this.statementBudget = statementBudget;
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        // SQL 형태 정규화 비용은 샘플링된 요청에만 발생
+        boolean sampled = sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate;
+        RequestQueries queries = new RequestQueries(sampled);
+        // 비동기 처리 스레드가 요청 스레드보다 먼저 끝날 수 있어 체인 호출 전에 둠
+        request.setAttribute(QUERIES_ATTRIBUTE, queries);
+        QueryCounter.start(sampled);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            queries.add(QueryCounter.stop());
+            // AccessLogFilter보다 안쪽 필터라 리스너가 먼저 등록되고 먼저 호출됨 (접근 로그가 SQL 수를 읽을 수 있음)
+            if (request.isAsyncStarted()) {
+                AtomicBoolean recorded = new AtomicBoolean();
+                request.getAsyncContext().addListener(new AsyncListener() {
+                    @Override
+                    public void onComplete(AsyncEvent event) {
+                        if (recorded.compareAndSet(false, true))
+                            record(request, response, queries.snapshot(), sampled);
+                    }
+
+                    @Override
+                    public void onTimeout(AsyncEvent event) {
+                        if (recorded.compareAndSet(false, true))
+                            record(request, response, queries.snapshot(), sampled);
+                    }
+
+                    @Override
+                    public void onError(AsyncEvent event) {
+                        if (recorded.compareAndSet(false, true))
+                            record(request, response, queries.snapshot(), sampled);
+                    }
+
+                    @Override
+                    public void onStartAsync(AsyncEvent event) {
+                    }
+                });
+            } else {
+                record(request, response, queries.snapshot(), sampled);
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, HttpServletResponse response, QueryCounter.Snapshot queries, boolean sampled) {
+        String route = route(request);
+        request.setAttribute(QUERY_COUNT_ATTRIBUTE, queries.statements());
+        DistributionSummary.builder("http.server.requests.queries")
+                .description("요청당 실행된 SQL 수")
+                .tag("method", request.getMethod())
+                .tag("uri", route)
+                .tag("status", String.valueOf(response.getStatus()))
+                .serviceLevelObjectives(1, 2, 3, 5, 10, 20, 50)
+                .register(Metrics.globalRegistry)
+                .record(queries.statements());
+
+        if (statementBudget > 0 && queries.statements() > statementBudget)
+            overBudget(request.getMethod(), route, queries, sampled);
+    }
+
+    private void overBudget(String method, String route, QueryCounter.Snapshot queries, boolean sampled) {
+        Counter.builder("http.server.requests.queries.over_budget")
+                .description("SQL 수 예산을 초과한 요청 수")
+                .tag("method", method)
+                .tag("uri", route)
+                .register(Metrics.globalRegistry)
+                .increment();
+        if (!sampled)
+            return;
+
+        String shapes = queries.shapes().entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .limit(LOGGED_SHAPES)
+                .map(shape -> shape.getValue() + "x " + shape.getKey())
+                .collect(Collectors.joining("\n  ", "\n  ", ""));
+        log.warn("SQL 수 예산 초과: {} {}, {}회 (예산 {}){}", method, route, queries.statements(), statementBudget, shapes);
+    }
+
+    // 경로 변수 값이 태그로 들어가지 않도록 매칭된 패턴 사용 (/post/{id})
+    public static String route(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+}
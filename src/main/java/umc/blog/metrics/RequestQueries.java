@@ -0,0 +1,29 @@
+package umc.blog.metrics;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// 한 요청 동안 여러 스레드(요청 스레드, 비동기 처리 스레드)에서 실행된 SQL 수를 합산
+class RequestQueries {
+    private final boolean captureShapes;
+    private final Map<String, Integer> shapes = new LinkedHashMap<>();
+    private int statements;
+
+    RequestQueries(boolean captureShapes) {
+        this.captureShapes = captureShapes;
+    }
+
+    boolean captureShapes() {
+        return captureShapes;
+    }
+
+    synchronized void add(QueryCounter.Snapshot snapshot) {
+        statements += snapshot.statements();
+        snapshot.shapes().forEach((shape, count) -> shapes.merge(shape, count, Integer::sum));
+    }
+
+    synchronized QueryCounter.Snapshot snapshot() {
+        return new QueryCounter.Snapshot(statements, Collections.unmodifiableMap(new LinkedHashMap<>(shapes)));
+    }
+}
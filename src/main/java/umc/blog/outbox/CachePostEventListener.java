@@ -0,0 +1,22 @@
+package umc.blog.outbox;
+
+import org.springframework.stereotype.Component;
+import umc.blog.cache.PostCache;
+import umc.blog.entity.PostEvent;
+import umc.blog.entity.PostEventType;
+
+// 다른 인스턴스에서 수정/삭제된 글을 캐시에서 제거 (변경한 인스턴스는 커밋 직후 바로 제거)
+@Component
+public class CachePostEventListener implements PostEventListener {
+    private final PostCache postCache;
+
+    public CachePostEventListener(PostCache postCache) {
+        this.postCache = postCache;
+    }
+
+    @Override
+    public void onPostEvent(PostEvent event) {
+        if (event.getType() != PostEventType.CREATED && event.getType() != PostEventType.IMPORTED)
+            postCache.evict(event.getPostId());
+    }
+}
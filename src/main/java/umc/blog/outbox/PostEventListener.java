@@ -0,0 +1,10 @@
+package umc.blog.outbox;
+
+import umc.blog.entity.PostEvent;
+
+// 글 변경 이벤트 구독자, 같은 이벤트가 두 번 이상 전달될 수 있으므로 멱등하게 구현
+// 같은 글의 이벤트는 기록된 순서대로 하나의 스레드에서 전달됨
+public interface PostEventListener {
+
+    void onPostEvent(PostEvent event);
+}
@@ -0,0 +1,266 @@
+package umc.blog.outbox;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import umc.blog.entity.PostEvent;
+import umc.blog.entity.PostEventSequence;
+import umc.blog.repository.PostEventRepository;
+import umc.blog.repository.PostEventSequenceRepository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+// outbox(post_event)를 배치로 읽어 구독자에게 전달
+// - 커밋 순서와 id/created_at 순서는 다를 수 있으므로 커밋되어 보이는 이벤트에 relay_seq를 발급해 그 순서로 전달
+//   (post_event_sequence 행을 잠근 트랜잭션만 발급하므로 먼저 커밋된 발급이 항상 더 작은 값, 늦게 커밋된 트랜잭션도 누락 없음)
+// - 인스턴스마다 relay_seq 커서를 메모리에 두고 모든 이벤트를 받음 (캐시, 색인은 인스턴스별 상태)
+// - 글 id별 파티션 큐로 같은 글의 이벤트 순서를 보장, 큐가 가득 차면 relay가 대기 (back-pressure)
+// - 배치 전체가 전달된 뒤에만 커서를 전진 (at-least-once)
+@Slf4j
+@Component
+public class PostEventRelay implements SmartLifecycle {
+    private final PostEventRepository postEventRepository;
+    private final PostEventSequenceRepository postEventSequenceRepository;
+    private final List<PostEventListener> listeners;
+    private final TransactionTemplate transactionTemplate;
+    private final Partition[] partitions;
+    private final int batchSize;
+    private final long pollIntervalMillis;
+    private final int maxAttempts;
+    private final Duration retention;
+
+    private volatile boolean running;
+    private Thread relayThread;
+    // relay 스레드에서만 갱신, cursorSeq가 음수면 아직 현재 발급 값을 읽지 않은 상태
+    private volatile Instant cursorCreatedAt;
+    private volatile long cursorSeq = -1;
+
+    public PostEventRelay(PostEventRepository postEventRepository,
+                          PostEventSequenceRepository postEventSequenceRepository,
+                          List<PostEventListener> listeners, PlatformTransactionManager transactionManager,
+                          @Value("${post.outbox.partitions:4}") int partitionCount,
+                          @Value("${post.outbox.queue-capacity:1000}") int queueCapacity,
+                          @Value("${post.outbox.batch-size:500}") int batchSize,
+                          @Value("${post.outbox.poll-interval-ms:200}") long pollIntervalMillis,
+                          @Value("${post.outbox.max-attempts:3}") int maxAttempts,
+                          @Value("${post.outbox.retention-hours:24}") long retentionHours) {
+        this.postEventRepository = postEventRepository;
+        this.postEventSequenceRepository = postEventSequenceRepository;
+        this.listeners = listeners;
+        // 복제 지연 없이 최신 이벤트를 읽도록 primary에서 조회 (읽기 전용으로 표시하지 않음)
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.pollIntervalMillis = pollIntervalMillis;
+        this.maxAttempts = Math.max(maxAttempts, 1);
+        this.retention = Duration.ofHours(retentionHours);
+        this.partitions = new Partition[Math.max(partitionCount, 1)];
+        for (int i = 0; i < partitions.length; i++) {
+            partitions[i] = new Partition(i, queueCapacity);
+            Gauge.builder("post.outbox.queue.size", partitions[i].queue, BlockingQueue::size)
+                    .description("구독자 전달 대기 중인 이벤트 수")
+                    .tag("partition", String.valueOf(i))
+                    .register(Metrics.globalRegistry);
+        }
+        Gauge.builder("post.outbox.lag", this, relay -> relay.cursorCreatedAt == null ? 0
+                        : Duration.between(relay.cursorCreatedAt, Instant.now()).toMillis())
+                .description("마지막으로 전달한 이벤트의 기록 시각으로부터 지난 시간 (ms)")
+                .register(Metrics.globalRegistry);
+    }
+
+    @Override
+    public void start() {
+        // 기동 이전 이벤트는 인스턴스 상태(캐시, 기동 시 재구성하는 색인)에 영향이 없으므로 현재 발급 값부터 전달 (relay 스레드에서 조회)
+        cursorSeq = -1;
+        running = true;
+        for (Partition partition : partitions)
+            partition.start();
+        relayThread = new Thread(this::relayLoop, "post-event-relay");
+        relayThread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (relayThread != null)
+            relayThread.interrupt();
+        join(relayThread);
+        // 큐에 남은 이벤트는 전달 후 종료
+        for (Partition partition : partitions)
+            partition.stop();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // 보관 기간이 지난 이벤트 정리
+    @Scheduled(fixedDelayString = "${post.outbox.retention-sweep-interval-ms:3600000}")
+    public void deleteExpired() {
+        Integer deleted = transactionTemplate.execute(status ->
+                postEventRepository.deleteCreatedBefore(Instant.now().minus(retention)));
+        if (deleted != null && deleted > 0)
+            log.info("보관 기간이 지난 글 이벤트 {}건 삭제", deleted);
+    }
+
+    private void relayLoop() {
+        while (running) {
+            try {
+                if (relayBatch() < batchSize)
+                    Thread.sleep(pollIntervalMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.warn("글 이벤트 조회 실패, 다음 주기에 재시도", e);
+                sleepQuietly();
+            }
+        }
+    }
+
+    private int relayBatch() throws InterruptedException {
+        if (cursorSeq < 0)
+            cursorSeq = currentSeq();
+        assignSeq();
+        List<PostEvent> batch = transactionTemplate.execute(status ->
+                postEventRepository.findBatchAfter(cursorSeq, PageRequest.of(0, batchSize)));
+        if (batch == null || batch.isEmpty())
+            return 0;
+
+        CountDownLatch delivered = new CountDownLatch(batch.size());
+        for (PostEvent event : batch)
+            partitions[Math.floorMod(Long.hashCode(event.getPostId()), partitions.length)].queue.put(new Delivery(event, delivered));
+        delivered.await();
+
+        PostEvent last = batch.get(batch.size() - 1);
+        cursorCreatedAt = last.getCreatedAt();
+        cursorSeq = last.getRelaySeq();
+        return batch.size();
+    }
+
+    // 커밋되어 보이는 이벤트에 순서대로 relay_seq 발급, 모든 인스턴스가 시도하지만 잠금으로 한 번에 하나만 진행
+    private void assignSeq() {
+        transactionTemplate.executeWithoutResult(status -> {
+            PostEventSequence sequence = postEventSequenceRepository.findForUpdate(PostEventSequence.ID)
+                    .orElseThrow(() -> new IllegalStateException("post_event_sequence 행이 없습니다."));
+            // 잠금을 얻은 뒤에 조회해야 앞선 발급이 커밋된 상태를 봄
+            List<PostEvent> events = postEventRepository.findUnsequenced(PageRequest.of(0, batchSize));
+            long seq = sequence.getLastSeq();
+            for (PostEvent event : events)
+                event.setRelaySeq(++seq);
+            sequence.setLastSeq(seq);
+        });
+    }
+
+    // 발급 값 행이 없으면 생성, 여러 인스턴스가 동시에 만들면 하나만 성공
+    private long currentSeq() {
+        try {
+            return transactionTemplate.execute(status -> postEventSequenceRepository.findById(PostEventSequence.ID)
+                    .orElseGet(() -> postEventSequenceRepository.saveAndFlush(new PostEventSequence(PostEventSequence.ID, 0))))
+                    .getLastSeq();
+        } catch (DataIntegrityViolationException e) {
+            return transactionTemplate.execute(status -> postEventSequenceRepository.findById(PostEventSequence.ID)
+                    .orElseThrow()).getLastSeq();
+        }
+    }
+
+    private void deliver(PostEvent event) {
+        for (PostEventListener listener : listeners) {
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    listener.onPostEvent(event);
+                    break;
+                } catch (RuntimeException e) {
+                    if (attempt >= maxAttempts) {
+                        Metrics.counter("post.outbox.delivery.failed", "listener", listener.getClass().getSimpleName()).increment();
+                        log.error("글 이벤트 전달 실패: listener = {}, event = {} ({} {})",
+                                listener.getClass().getSimpleName(), event.getId(), event.getType(), event.getPostId(), e);
+                        break;
+                    }
+                    try {
+                        Thread.sleep(100L * attempt);
+                    } catch (InterruptedException interrupted) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+            }
+        }
+    }
+
+    private void sleepQuietly() {
+        try {
+            Thread.sleep(pollIntervalMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void join(Thread thread) {
+        if (thread == null)
+            return;
+        try {
+            thread.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record Delivery(PostEvent event, CountDownLatch delivered) {
+    }
+
+    private final class Partition {
+        private final int index;
+        private final BlockingQueue<Delivery> queue;
+        private volatile boolean accepting;
+        private Thread thread;
+
+        private Partition(int index, int capacity) {
+            this.index = index;
+            this.queue = new ArrayBlockingQueue<>(capacity);
+        }
+
+        private void start() {
+            accepting = true;
+            thread = new Thread(this::run, "post-event-" + index);
+            thread.start();
+        }
+
+        private void stop() {
+            accepting = false;
+            join(thread);
+        }
+
+        private void run() {
+            while (accepting || !queue.isEmpty()) {
+                try {
+                    Delivery delivery = queue.poll(100, TimeUnit.MILLISECONDS);
+                    if (delivery == null)
+                        continue;
+                    try {
+                        deliver(delivery.event());
+                    } finally {
+                        delivery.delivered().countDown();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+}
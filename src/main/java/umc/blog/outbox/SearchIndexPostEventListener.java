@@ -0,0 +1,57 @@
+package umc.blog.outbox;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import umc.blog.dto.PostDocumentDto;
+import umc.blog.entity.PostEvent;
+import umc.blog.entity.PostEventType;
+import umc.blog.repository.PostRepository;
+import umc.blog.search.PostSearchIndex;
+
+import java.util.List;
+
+// 이벤트 시점이 아닌 현재 글 상태로 색인하므로 중복 전달되어도 결과가 같음
+@Component
+public class SearchIndexPostEventListener implements PostEventListener {
+    private static final int PAGE_SIZE = 500;
+
+    private final PostRepository postRepository;
+    private final PostSearchIndex postSearchIndex;
+    private final TransactionTemplate transactionTemplate;
+
+    public SearchIndexPostEventListener(PostRepository postRepository, PostSearchIndex postSearchIndex,
+                                        PlatformTransactionManager transactionManager) {
+        this.postRepository = postRepository;
+        this.postSearchIndex = postSearchIndex;
+        // 방금 커밋된 글을 읽어야 하므로 읽기 전용으로 표시하지 않음 (primary에서 조회)
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public void onPostEvent(PostEvent event) {
+        if (event.getType() == PostEventType.DELETED) {
+            postSearchIndex.remove(event.getPostId());
+            return;
+        }
+        // 범위 안의 다른 글도 현재 상태로 다시 색인될 뿐이므로 결과는 같음 (범위에 없는 글은 이미 삭제된 것)
+        if (event.getType() == PostEventType.IMPORTED) {
+            long afterId = event.getPostId() - 1;
+            List<PostDocumentDto> documents;
+            do {
+                long pageAfterId = afterId;
+                documents = transactionTemplate.execute(status -> postRepository.findDocumentsAfter(
+                        pageAfterId, event.getLastPostId(), PageRequest.of(0, PAGE_SIZE)));
+                for (PostDocumentDto document : documents)
+                    postSearchIndex.index(document.getId(), document.getTitle(), document.getWriter(), document.getContent());
+                if (!documents.isEmpty())
+                    afterId = documents.get(documents.size() - 1).getId();
+            } while (documents.size() == PAGE_SIZE);
+            return;
+        }
+        postRepository.findDocumentById(event.getPostId()).ifPresentOrElse(
+                document -> postSearchIndex.index(document.getId(), document.getTitle(), document.getWriter(), document.getContent()),
+                () -> postSearchIndex.remove(event.getPostId()));
+    }
+}
@@ -0,0 +1,96 @@
+package umc.blog.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Metrics;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+import umc.blog.jwt.UserPrincipal;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// 경로별 요청 수 제한, 로그인 유저는 유저 id 기준, 그 외에는 클라이언트 IP 기준
+// JwtFilter 뒤에 위치해야 인증 정보를 키로 사용 가능
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+    public static final String LIMIT_HEADER = "X-RateLimit-Limit";
+    public static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+    private static final byte[] TOO_MANY_REQUESTS_BODY =
+            "{\"message\":\"요청이 너무 많습니다. 잠시 후 다시 시도해주세요.\"}".getBytes(StandardCharsets.UTF_8);
+
+    // "METHOD path" -> 규칙, 요청마다 해시 조회 한 번으로 대상 여부 판단
+    private final Map<String, RateLimitProperties.Rule> rules = new HashMap<>();
+    // 컨트롤러 매핑과 같은 기준(디코딩, ";" 경로 파라미터 제거)으로 경로를 비교해야 "/logi%6E" 같은 우회가 막힘
+    private final UrlPathHelper urlPathHelper = new UrlPathHelper();
+    private final Cache<String, TokenBucket> buckets;
+
+    public RateLimitFilter(RateLimitProperties properties) {
+        if (properties.isEnabled()) {
+            for (RateLimitProperties.Rule rule : properties.getRules())
+                rules.put(rule.getMethod().toUpperCase() + " " + rule.getPath(), rule);
+        }
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxKeys())
+                .expireAfterAccess(properties.getIdleTimeout())
+                .build();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String route = request.getMethod() + " " + urlPathHelper.getPathWithinApplication(request);
+        RateLimitProperties.Rule rule = rules.get(route);
+        if (rule == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        long now = System.nanoTime();
+        TokenBucket bucket = buckets.get(route + " " + clientKey(request),
+                key -> new TokenBucket(rule.getCapacity(), rule.getPermitsPerMinute() / 60.0, now));
+        long waitNanos = bucket.tryAcquire(now);
+        response.setHeader(LIMIT_HEADER, String.valueOf(rule.getCapacity()));
+
+        if (waitNanos > 0) {
+            log.debug("요청 제한 초과, route = {}", route);
+            Metrics.counter("rate_limit.rejected", "route", route).increment();
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(REMAINING_HEADER, "0");
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, (waitNanos + 999_999_999L) / 1_000_000_000L)));
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setContentLength(TOO_MANY_REQUESTS_BODY.length);
+            response.getOutputStream().write(TOO_MANY_REQUESTS_BODY);
+            return;
+        }
+
+        response.setHeader(REMAINING_HEADER, String.valueOf(bucket.remaining(now)));
+        chain.doFilter(request, response);
+    }
+
+    public long trackedKeys() {
+        buckets.cleanUp();
+        return buckets.estimatedSize();
+    }
+
+    private static String clientKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal principal)
+            return "user:" + principal.getId();
+        // 프록시 뒤에서는 server.forward-headers-strategy 설정으로 실제 클라이언트 IP가 반영됨
+        return "ip:" + request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,45 @@
+package umc.blog.ratelimit;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+// application.yml의 rate-limit.* 설정 (rules를 지정하면 기본 규칙 전체를 대체)
+@Getter
+@Setter
+@ConfigurationProperties("rate-limit")
+public class RateLimitProperties {
+    private boolean enabled = true;
+    // 메모리에 유지할 최대 버킷 수, 초과 시 오래된 버킷부터 제거
+    private long maxKeys = 100_000;
+    // 이 시간 동안 요청이 없으면 버킷 제거 (버킷이 가득 차는 시간보다 길어야 함)
+    private Duration idleTimeout = Duration.ofMinutes(30);
+    private List<Rule> rules = new ArrayList<>(List.of(
+            new Rule("POST", "/login", 10, 10),
+            new Rule("POST", "/signup", 5, 1),
+            new Rule("POST", "/token/refresh", 20, 20),
+            new Rule("POST", "/post", 30, 30),
+            new Rule("POST", "/post/batch", 5, 5),
+            // 한 번에 오래 실행되는 요청이므로 동시에 몰리지 않도록 낮게
+            new Rule("POST", "/post/import", 2, 1),
+            new Rule("GET", "/post/export", 2, 1)));
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Rule {
+        private String method;
+        private String path;
+        // 순간적으로 허용하는 최대 요청 수
+        private int capacity;
+        // 분당 보충되는 요청 수
+        private double permitsPerMinute;
+    }
+}
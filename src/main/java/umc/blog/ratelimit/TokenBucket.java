@@ -0,0 +1,34 @@
+package umc.blog.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// GCRA 방식의 토큰 버킷: 남은 토큰 대신 다음 허용 시각 하나만 CAS로 갱신 (잠금 없음)
+public class TokenBucket {
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final AtomicLong theoreticalArrivalNanos;
+
+    public TokenBucket(int capacity, double permitsPerSecond, long nowNanos) {
+        this.emissionIntervalNanos = Math.max(1L, (long) (1_000_000_000L / permitsPerSecond));
+        this.burstToleranceNanos = emissionIntervalNanos * Math.max(capacity, 1);
+        this.theoreticalArrivalNanos = new AtomicLong(nowNanos);
+    }
+
+    // 허용되면 0, 거부되면 다음 토큰까지 기다려야 하는 시간(ns)
+    public long tryAcquire(long nowNanos) {
+        while (true) {
+            long current = theoreticalArrivalNanos.get();
+            long next = Math.max(current, nowNanos) + emissionIntervalNanos;
+            long waitNanos = next - nowNanos - burstToleranceNanos;
+            if (waitNanos > 0)
+                return waitNanos;
+            if (theoreticalArrivalNanos.compareAndSet(current, next))
+                return 0;
+        }
+    }
+
+    public int remaining(long nowNanos) {
+        long used = Math.max(theoreticalArrivalNanos.get() - nowNanos, 0);
+        return (int) Math.max((burstToleranceNanos - used) / emissionIntervalNanos, 0);
+    }
+}
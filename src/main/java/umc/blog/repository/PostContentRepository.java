@@ -0,0 +1,82 @@
+package umc.blog.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import umc.blog.entity.PostContentConverter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.Instant;
+
+// 본문 LOB를 JDBC 스트림으로 직접 읽어 응답에 복사
+@Repository
+public class PostContentRepository {
+    private static final String EXPORT_SQL =
+            "select p.post_id, p.title, u.username, p.modified_at, p.view_count, p.content " +
+            "from post p left join user u on u.user_id = p.user_id " +
+            "where p.post_id > ? order by p.post_id limit ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PostContentRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // 글이 없으면 false
+    // MySQL Connector/J는 LOB 컬럼도 행 전체를 메모리로 읽은 뒤 스트림을 돌려주므로 MySQL에서는 글 하나 크기만큼 메모리 사용
+    public boolean copyContent(Long id, OutputStream out) {
+        Boolean found = jdbcTemplate.query("select content from post where post_id = ?", rs -> {
+            if (!rs.next())
+                return false;
+
+            InputStream stored = rs.getBinaryStream(1);
+            if (stored == null)
+                return true;
+            try (InputStream content = PostContentConverter.openStream(stored)) {
+                content.transferTo(out);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return true;
+        }, id);
+        return Boolean.TRUE.equals(found);
+    }
+
+    // post_id 순으로 afterId 다음부터 최대 limit개를 한 방향 커서로 조회, 드라이버가 fetchSize 단위로만 행을 가져오므로 메모리 고정
+    // MySQL은 URL에 useCursorFetch=true 가 있어야 fetchSize가 적용됨 (없으면 결과 전체를 버퍼링)
+    public void exportAfter(Long afterId, int limit, int fetchSize, ExportHandler handler) {
+        jdbcTemplate.query(con -> {
+            PreparedStatement statement = con.prepareStatement(EXPORT_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            statement.setLong(1, afterId == null ? 0L : afterId);
+            statement.setInt(2, limit);
+            return statement;
+        }, (RowCallbackHandler) rs -> {
+            Timestamp modifiedAt = rs.getTimestamp(4);
+            ExportedPost post = new ExportedPost(rs.getLong(1), rs.getString(2), rs.getString(3),
+                    modifiedAt == null ? null : modifiedAt.toInstant(), rs.getLong(5));
+
+            InputStream stored = rs.getBinaryStream(6);
+            try (InputStream content = stored == null ? InputStream.nullInputStream() : PostContentConverter.openStream(stored)) {
+                handler.handle(post, content);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    // content 스트림은 handle 안에서만 유효 (다음 행으로 넘어가면 닫힘)
+    @FunctionalInterface
+    public interface ExportHandler {
+        void handle(ExportedPost post, InputStream content) throws IOException;
+    }
+
+    public record ExportedPost(long id, String title, String writer, Instant modifiedAt, long viewCount) {
+    }
+}
@@ -0,0 +1,26 @@
+package umc.blog.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import umc.blog.entity.PostEvent;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface PostEventRepository extends JpaRepository<PostEvent, Long> {
+
+    // 아직 전달 순서를 발급받지 않은 이벤트 (커밋된 것만 보임)
+    @Query("select e from PostEvent e where e.relaySeq is null order by e.id")
+    List<PostEvent> findUnsequenced(Pageable pageable);
+
+    // relay_seq 커서 이후의 이벤트
+    @Query("select e from PostEvent e where e.relaySeq > :afterSeq order by e.relaySeq")
+    List<PostEvent> findBatchAfter(@Param("afterSeq") long afterSeq, Pageable pageable);
+
+    @Modifying
+    @Query("delete from PostEvent e where e.createdAt < :before")
+    int deleteCreatedBefore(@Param("before") Instant before);
+}
@@ -0,0 +1,18 @@
+package umc.blog.repository;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import umc.blog.entity.PostEventSequence;
+
+import java.util.Optional;
+
+public interface PostEventSequenceRepository extends JpaRepository<PostEventSequence, Long> {
+
+    // 발급은 한 번에 한 트랜잭션만 (SELECT ... FOR UPDATE)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from PostEventSequence s where s.id = :id")
+    Optional<PostEventSequence> findForUpdate(@Param("id") Long id);
+}
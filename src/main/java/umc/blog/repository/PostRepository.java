@@ -1,7 +1,104 @@
 package umc.blog.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import umc.blog.dto.PostDocumentDto;
+import umc.blog.dto.PostDto;
+import umc.blog.dto.PostSummaryDto;
+import umc.blog.dto.PostVersionDto;
+import umc.blog.dto.PostWriterIdDto;
 import umc.blog.entity.Post;
 
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
 public interface PostRepository extends JpaRepository<Post, Long> {
+
+    // 작성자 이름까지 한 번의 쿼리로 조회, 본문이 inlineMaxLength 글자보다 길면 본문은 읽지 않음
+    @Transactional(readOnly = true)
+    @Query("select new umc.blog.dto.PostDto(p.title, w.username, " +
+            "case when coalesce(p.contentLength, 0) <= :inlineMaxLength then p.content else null end, " +
+            "p.version, p.modifiedAt, p.viewCount, p.contentLength) " +
+            "from Post p left join p.writer w " +
+            "where p.id = :id")
+    Optional<PostDto> findPostDtoById(@Param("id") Long id, @Param("inlineMaxLength") int inlineMaxLength);
+
+    // 조건부 요청(If-None-Match) 판단용, 본문은 읽지 않음
+    @Transactional(readOnly = true)
+    @Query("select p.version from Post p where p.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    // 304 응답에도 조회수 헤더를 붙이기 위해 조회수를 함께 읽음, 본문은 읽지 않음
+    @Transactional(readOnly = true)
+    @Query("select new umc.blog.dto.PostVersionDto(p.version, p.viewCount) from Post p where p.id = :id")
+    Optional<PostVersionDto> findVersionAndViewCountById(@Param("id") Long id);
+
+    // 작성자 확인, 버전 확인(낙관적 락)과 수정을 한 번의 UPDATE로 처리, 반영된 행 수 반환
+    // expectedVersion이 null이면 버전을 확인하지 않음 (id 조건으로 PK 조회이므로 인덱스 사용에는 영향 없음)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Post p set p.title = :title, p.content = :content, " +
+            "p.excerpt = :excerpt, p.contentLength = :contentLength, " +
+            "p.version = coalesce(p.version, 0) + 1, p.modifiedAt = :modifiedAt " +
+            "where p.id = :id and p.writer.id = :writerId " +
+            "and (:expectedVersion is null or coalesce(p.version, 0) = :expectedVersion)")
+    int updateByIdAndWriterId(@Param("id") Long id, @Param("writerId") Long writerId,
+                              @Param("expectedVersion") Long expectedVersion,
+                              @Param("title") String title, @Param("content") String content,
+                              @Param("excerpt") String excerpt, @Param("contentLength") Integer contentLength,
+                              @Param("modifiedAt") Instant modifiedAt);
+
+    // 작성자 확인과 삭제를 한 번의 DELETE로 처리, 반영된 행 수 반환
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Post p where p.id = :id and p.writer.id = :writerId")
+    int deleteByIdAndWriterId(@Param("id") Long id, @Param("writerId") Long writerId);
+
+    // 일괄 삭제 시 권한 확인용
+    @Query("select p.id as id, p.writer.id as writerId from Post p where p.id in :ids")
+    List<PostWriterIdDto> findWriterIdsByIdIn(@Param("ids") List<Long> ids);
+
+    // post_id 기준 keyset 페이징, 본문과 writer 엔티티는 로딩하지 않음 (writer는 정규화한 username)
+    // 조건을 "(:x is null or ...)"로 합치면 MySQL이 PK 범위 스캔을 못 쓰므로 첫 페이지/다음 페이지, 작성자 필터 유무별로 쿼리를 나눔
+    @Query("select new umc.blog.dto.PostSummaryDto(p.id, p.title, w.username, p.excerpt, p.contentLength) " +
+            "from Post p join p.writer w " +
+            "order by p.id desc")
+    List<PostSummaryDto> findSummaries(Pageable pageable);
+
+    @Query("select new umc.blog.dto.PostSummaryDto(p.id, p.title, w.username, p.excerpt, p.contentLength) " +
+            "from Post p join p.writer w " +
+            "where p.id < :cursor " +
+            "order by p.id desc")
+    List<PostSummaryDto> findSummariesBefore(@Param("cursor") Long cursor, Pageable pageable);
+
+    @Query("select new umc.blog.dto.PostSummaryDto(p.id, p.title, w.username, p.excerpt, p.contentLength) " +
+            "from Post p join p.writer w " +
+            "where w.usernameNormalized = :writer " +
+            "order by p.id desc")
+    List<PostSummaryDto> findSummariesByWriter(@Param("writer") String writer, Pageable pageable);
+
+    @Query("select new umc.blog.dto.PostSummaryDto(p.id, p.title, w.username, p.excerpt, p.contentLength) " +
+            "from Post p join p.writer w " +
+            "where p.id < :cursor and w.usernameNormalized = :writer " +
+            "order by p.id desc")
+    List<PostSummaryDto> findSummariesByWriterBefore(@Param("cursor") Long cursor, @Param("writer") String writer,
+                                                     Pageable pageable);
+
+    // 이벤트 구독자용, 복제 지연 없이 최신 상태를 읽도록 읽기 전용으로 표시하지 않음 (primary 조회)
+    @Query("select new umc.blog.dto.PostDocumentDto(p.id, p.title, w.username, p.content) " +
+            "from Post p left join p.writer w " +
+            "where p.id = :id")
+    Optional<PostDocumentDto> findDocumentById(@Param("id") Long id);
+
+    // (afterId, toId] 범위의 글을 id 순으로 한 페이지씩 조회 (색인 재구성, 가져오기 청크 색인)
+    // MySQL Connector/J는 useCursorFetch 없이는 fetchSize와 무관하게 결과 전체를 버퍼링하므로 LIMIT으로 크기를 제한
+    @Query("select new umc.blog.dto.PostDocumentDto(p.id, p.title, w.username, p.content) " +
+            "from Post p left join p.writer w " +
+            "where p.id > :afterId and p.id <= :toId " +
+            "order by p.id")
+    List<PostDocumentDto> findDocumentsAfter(@Param("afterId") Long afterId, @Param("toId") Long toId,
+                                             Pageable pageable);
 }
@@ -0,0 +1,37 @@
+package umc.blog.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import umc.blog.entity.RefreshToken;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+
+    @Query("select t from RefreshToken t join fetch t.user where t.tokenHash = :tokenHash")
+    Optional<RefreshToken> findWithUserByTokenHash(@Param("tokenHash") String tokenHash);
+
+    // 동시에 같은 토큰으로 갱신하는 경우 한 요청만 성공하도록 조건부 UPDATE
+    @Modifying
+    @Query("update RefreshToken t set t.revoked = true where t.id = :id and t.revoked = false")
+    int revokeIfActive(@Param("id") Long id);
+
+    @Modifying
+    @Query("update RefreshToken t set t.revoked = true where t.accessTokenId = :accessTokenId")
+    int revokeByAccessTokenId(@Param("accessTokenId") String accessTokenId);
+
+    @Query("select t.accessTokenId from RefreshToken t where t.user.id = :userId and t.revoked = false")
+    List<String> findActiveAccessTokenIdsByUserId(@Param("userId") Long userId);
+
+    @Modifying
+    @Query("update RefreshToken t set t.revoked = true where t.user.id = :userId and t.revoked = false")
+    int revokeAllByUserId(@Param("userId") Long userId);
+
+    @Modifying
+    @Query("delete from RefreshToken t where t.expiresAt < :now")
+    int deleteExpired(@Param("now") Instant now);
+}
@@ -1,10 +1,34 @@
 package umc.blog.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 import umc.blog.entity.User;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
-    Optional<User> findByUsername(String username);
+    // username_normalized 유니크 인덱스 조회, 인자는 User.normalize로 정규화한 값
+    @Transactional(readOnly = true)
+    Optional<User> findByUsernameNormalized(String usernameNormalized);
+
+    @Transactional(readOnly = true)
+    boolean existsByUsernameNormalized(String usernameNormalized);
+
+    // 정규화 컬럼 추가 이전에 가입한 유저 (UsernameBackfill), 채우지 못한 유저를 다시 읽지 않도록 id 순으로 이어서 조회
+    List<User> findTop500ByUsernameNormalizedIsNullAndIdGreaterThanOrderByIdAsc(Long afterId);
+
+    @Modifying
+    @Query("update User u set u.usernameNormalized = :usernameNormalized where u.id = :id and u.usernameNormalized is null")
+    int updateUsernameNormalized(@Param("id") Long id, @Param("usernameNormalized") String usernameNormalized);
+
+    // 대소문자만 다른 기존 중복 계정처럼 정규화 값을 채우지 못한 유저의 로그인용
+    Optional<User> findFirstByUsernameAndUsernameNormalizedIsNull(String username);
+
+    @Modifying
+    @Query("update User u set u.password = :password where u.id = :id")
+    int updatePassword(@Param("id") Long id, @Param("password") String password);
 }
@@ -0,0 +1,54 @@
+package umc.blog.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+// 라틴 문자/숫자는 단어 단위, 한글 등 CJK 문자는 띄어쓰기와 조사에 영향받지 않도록 bigram으로 분리
+public class NGramAnalyzer {
+
+    public List<String> analyze(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null)
+            return terms;
+
+        String normalized = text.toLowerCase(Locale.ROOT);
+        int length = normalized.length();
+        int i = 0;
+        while (i < length) {
+            char c = normalized.charAt(i);
+            if (!Character.isLetterOrDigit(c)) {
+                i++;
+                continue;
+            }
+
+            boolean cjk = isCjk(c);
+            int start = i;
+            while (i < length && Character.isLetterOrDigit(normalized.charAt(i)) && isCjk(normalized.charAt(i)) == cjk)
+                i++;
+
+            if (cjk)
+                addBigrams(normalized, start, i, terms);
+            else
+                terms.add(normalized.substring(start, i));
+        }
+        return terms;
+    }
+
+    private static void addBigrams(String text, int start, int end, List<String> terms) {
+        if (end - start == 1) {
+            terms.add(text.substring(start, end));
+            return;
+        }
+        for (int i = start; i < end - 1; i++)
+            terms.add(text.substring(i, i + 2));
+    }
+
+    private static boolean isCjk(char c) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(c);
+        return script == Character.UnicodeScript.HANGUL
+                || script == Character.UnicodeScript.HAN
+                || script == Character.UnicodeScript.HIRAGANA
+                || script == Character.UnicodeScript.KATAKANA;
+    }
+}
@@ -0,0 +1,234 @@
+package umc.blog.search;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+import umc.blog.dto.PostSearchHitDto;
+import umc.blog.dto.PostSearchPageDto;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 글 제목/본문에 대한 메모리 역색인, BM25로 순위 계산
+@Component
+public class PostSearchIndex {
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    // 제목에 등장한 단어는 본문보다 가중치를 높게
+    private static final int TITLE_WEIGHT = 2;
+
+    // 캐시에 보관하는 정렬 결과의 총 건수 상한
+    private static final long MAX_CACHED_HITS = 1_000_000;
+
+    private static final Comparator<ScoredPost> RANKING =
+            Comparator.comparingDouble(ScoredPost::score).reversed()
+                    .thenComparing(ScoredPost::id, Comparator.reverseOrder());
+
+    private final NGramAnalyzer analyzer = new NGramAnalyzer();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    private final Map<Long, IndexedPost> documents = new HashMap<>();
+    private long totalLength;
+    // 색인이 바뀔 때마다 증가, 캐시된 정렬 결과가 최신인지 판단
+    private long generation;
+    // 재구성 중 구독자가 반영한 글, 재구성의 스냅샷(더 오래된 상태)으로 덮어쓰지 않음 (재구성 중이 아니면 null)
+    private Set<Long> updatedDuringRebuild;
+
+    // 같은 검색어의 다음 페이지 요청은 점수를 다시 계산하지 않고 정렬 결과를 재사용
+    private final Cache<List<String>, RankedHits> rankedHitsCache = Caffeine.newBuilder()
+            .maximumWeight(MAX_CACHED_HITS)
+            .weigher((List<String> terms, RankedHits ranked) -> ranked.hits().size() + 1)
+            .build();
+
+    public void index(Long id, String title, String writer, String content) {
+        IndexedPost post = analyze(title, writer, content);
+        lock.writeLock().lock();
+        try {
+            indexInternal(id, post);
+            if (updatedDuringRebuild != null)
+                updatedDuringRebuild.add(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+            if (updatedDuringRebuild != null)
+                updatedDuringRebuild.add(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 재구성 시작, 이후 index/remove로 반영된 글은 indexSnapshot이 건너뜀 (스냅샷 조회를 시작하기 전에 호출)
+    public void beginRebuild() {
+        lock.writeLock().lock();
+        try {
+            updatedDuringRebuild = new HashSet<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 재구성용 색인, 재구성 중 삭제/수정된 글을 예전 상태로 되살리지 않음
+    public void indexSnapshot(Long id, String title, String writer, String content) {
+        IndexedPost post = analyze(title, writer, content);
+        lock.writeLock().lock();
+        try {
+            if (updatedDuringRebuild == null || !updatedDuringRebuild.contains(id))
+                indexInternal(id, post);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void endRebuild() {
+        lock.writeLock().lock();
+        try {
+            updatedDuringRebuild = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // (score, id) 기준 keyset 페이징, cursor는 이전 페이지 마지막 결과
+    public PostSearchPageDto search(String query, String cursor, int size) {
+        List<String> queryTerms = List.copyOf(new LinkedHashSet<>(analyzer.analyze(query)));
+        ScoredPost after = decodeCursor(cursor);
+
+        lock.readLock().lock();
+        try {
+            List<ScoredPost> ranked = rankedHits(queryTerms);
+            int start = after == null ? 0 : startAfter(ranked, after);
+            int end = Math.min(start + size, ranked.size());
+
+            List<PostSearchHitDto> page = new ArrayList<>(end - start);
+            for (ScoredPost hit : ranked.subList(start, end)) {
+                IndexedPost post = documents.get(hit.id());
+                page.add(new PostSearchHitDto(hit.id(), post.title(), post.writer(), hit.score()));
+            }
+            if (end == ranked.size())
+                return new PostSearchPageDto(page, null);
+
+            ScoredPost last = ranked.get(end - 1);
+            return new PostSearchPageDto(page, last.score() + "_" + last.id());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 읽기 락 안에서 호출, 색인이 바뀌지 않았으면 캐시된 정렬 결과 사용
+    private List<ScoredPost> rankedHits(List<String> queryTerms) {
+        RankedHits cached = rankedHitsCache.getIfPresent(queryTerms);
+        if (cached != null && cached.generation() == generation)
+            return cached.hits();
+        if (documents.isEmpty())
+            return List.of();
+
+        int documentCount = documents.size();
+        double averageLength = (double) totalLength / documentCount;
+        Map<Long, Double> scores = new HashMap<>();
+        for (String term : queryTerms) {
+            Map<Long, Integer> posting = postings.get(term);
+            if (posting == null)
+                continue;
+
+            double idf = Math.log(1 + (documentCount - posting.size() + 0.5) / (posting.size() + 0.5));
+            posting.forEach((id, frequency) -> {
+                int length = documents.get(id).length();
+                double tf = frequency * (K1 + 1) / (frequency + K1 * (1 - B + B * length / averageLength));
+                scores.merge(id, idf * tf, Double::sum);
+            });
+        }
+
+        List<ScoredPost> hits = new ArrayList<>(scores.size());
+        scores.forEach((id, score) -> hits.add(new ScoredPost(id, score)));
+        hits.sort(RANKING);
+        rankedHitsCache.put(queryTerms, new RankedHits(generation, hits));
+        return hits;
+    }
+
+    // 정렬 결과에서 cursor 바로 다음 위치 (이분 탐색)
+    private static int startAfter(List<ScoredPost> ranked, ScoredPost after) {
+        int low = 0;
+        int high = ranked.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (RANKING.compare(ranked.get(mid), after) > 0)
+                high = mid;
+            else
+                low = mid + 1;
+        }
+        return low;
+    }
+
+    // 형태소 분석은 락 밖에서 수행
+    private IndexedPost analyze(String title, String writer, String content) {
+        Map<String, Integer> termFrequencies = new HashMap<>();
+        for (String term : analyzer.analyze(title))
+            termFrequencies.merge(term, TITLE_WEIGHT, Integer::sum);
+        for (String term : analyzer.analyze(content))
+            termFrequencies.merge(term, 1, Integer::sum);
+        int length = termFrequencies.values().stream().mapToInt(Integer::intValue).sum();
+        return new IndexedPost(title, writer, termFrequencies, length);
+    }
+
+    private void indexInternal(Long id, IndexedPost post) {
+        removeInternal(id);
+        documents.put(id, post);
+        post.termFrequencies().forEach((term, frequency) ->
+                postings.computeIfAbsent(term, key -> new HashMap<>()).put(id, frequency));
+        totalLength += post.length();
+        generation++;
+    }
+
+    private void removeInternal(Long id) {
+        IndexedPost removed = documents.remove(id);
+        if (removed == null)
+            return;
+
+        for (String term : removed.termFrequencies().keySet()) {
+            Map<Long, Integer> posting = postings.get(term);
+            if (posting != null) {
+                posting.remove(id);
+                if (posting.isEmpty())
+                    postings.remove(term);
+            }
+        }
+        totalLength -= removed.length();
+        generation++;
+    }
+
+    private static ScoredPost decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank())
+            return null;
+
+        int separator = cursor.lastIndexOf('_');
+        if (separator < 0)
+            throw new IllegalArgumentException("invalid cursor");
+        return new ScoredPost(Long.parseLong(cursor.substring(separator + 1)),
+                Double.parseDouble(cursor.substring(0, separator)));
+    }
+
+    private record IndexedPost(String title, String writer, Map<String, Integer> termFrequencies, int length) {
+    }
+
+    private record ScoredPost(long id, double score) {
+    }
+
+    private record RankedHits(long generation, List<ScoredPost> hits) {
+    }
+}
@@ -0,0 +1,57 @@
+package umc.blog.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import umc.blog.dto.PostDocumentDto;
+import umc.blog.repository.PostRepository;
+
+import java.util.List;
+
+// 기동 시 DB 전체를 id 순으로 pageSize개씩 짧은 읽기 전용 트랜잭션으로 읽어 색인을 재구성 (본문 전체를 한 번에 메모리에 올리지 않음)
+@Slf4j
+@Component
+public class PostSearchIndexLoader {
+    private final PostRepository postRepository;
+    private final PostSearchIndex postSearchIndex;
+    private final TransactionTemplate transactionTemplate;
+    private final int pageSize;
+
+    public PostSearchIndexLoader(PostRepository postRepository, PostSearchIndex postSearchIndex,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${post.search.rebuild-page-size:500}") int pageSize) {
+        this.postRepository = postRepository;
+        this.postSearchIndex = postSearchIndex;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.pageSize = Math.max(pageSize, 1);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        // PostEventRelay가 동시에 반영하는 변경이 스냅샷의 이전 상태로 덮어써지지 않도록 조회 전에 시작
+        postSearchIndex.beginRebuild();
+        try {
+            long afterId = 0;
+            List<PostDocumentDto> documents;
+            do {
+                long pageAfterId = afterId;
+                documents = transactionTemplate.execute(status ->
+                        postRepository.findDocumentsAfter(pageAfterId, Long.MAX_VALUE, PageRequest.of(0, pageSize)));
+                for (PostDocumentDto document : documents)
+                    postSearchIndex.indexSnapshot(document.getId(), document.getTitle(), document.getWriter(), document.getContent());
+                if (!documents.isEmpty())
+                    afterId = documents.get(documents.size() - 1).getId();
+            } while (documents.size() == pageSize);
+        } finally {
+            postSearchIndex.endRebuild();
+        }
+        log.info("검색 색인 재구성 완료: {}건, {}ms", postSearchIndex.size(), System.currentTimeMillis() - startedAt);
+    }
+}
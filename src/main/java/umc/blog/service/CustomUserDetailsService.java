@@ -3,34 +3,59 @@ package umc.blog.service;
 import jakarta.transaction.Transactional;
 
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Component;
+import umc.blog.config.ReplicaRoutingDataSource;
 import umc.blog.entity.User;
 import umc.blog.repository.UserRepository;
 
-import java.util.ArrayList;
+import java.util.Optional;
 
 @Component("userDetailsService")
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
+    private final UsernameBackfill usernameBackfill;
+    private final UserAuthorities userAuthorities;
 
-    public CustomUserDetailsService(UserRepository userRepository) {
+    public CustomUserDetailsService(UserRepository userRepository, UsernameBackfill usernameBackfill,
+                                    UserAuthorities userAuthorities) {
         this.userRepository = userRepository;
+        this.usernameBackfill = usernameBackfill;
+        this.userAuthorities = userAuthorities;
     }
 
+    // 읽기 전용 조회라 replica에서 수행, 가입 직후라 아직 복제되지 않았으면 primary에서 한 번 더 조회
+    // 정규화 값을 채우지 못한 기존 유저가 남아 있으면 대소문자만 다른 계정에 가려지지 않도록 username 그대로 먼저 조회
     @Override
-    @Transactional
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        return userRepository.findByUsername(username)
-                .map(user -> createUser(username, user))
+        String usernameNormalized = User.normalize(username);
+        Optional<User> legacyUser = username != null && usernameBackfill.isLegacyUsersRemaining()
+                ? ReplicaRoutingDataSource.usePrimary(() -> userRepository.findFirstByUsernameAndUsernameNormalizedIsNull(username))
+                : Optional.empty();
+        return legacyUser
+                .or(() -> userRepository.findByUsernameNormalized(usernameNormalized))
+                .or(() -> ReplicaRoutingDataSource.usePrimary(() -> userRepository.findByUsernameNormalized(usernameNormalized)))
+                .map(this::createUser)
                 .orElseThrow(() -> new UsernameNotFoundException(username + " -> 데이터베이스에서 찾을 수 없습니다."));
     }
 
-    private org.springframework.security.core.userdetails.User createUser(String username, User user) {
-        return new org.springframework.security.core.userdetails.User(username,
+    // 로그인 성공 시 이전 형식/비용의 해시를 새 해시로 교체 (DaoAuthenticationProvider가 호출)
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        Long id = user instanceof LoginUserDetails loginUser ? loginUser.getId()
+                : userRepository.findByUsernameNormalized(User.normalize(user.getUsername())).map(User::getId).orElse(null);
+        userRepository.updatePassword(id, newPassword);
+        return new LoginUserDetails(id, user.getUsername(), newPassword, user.getAuthorities());
+    }
+
+    private LoginUserDetails createUser(User user) {
+        return new LoginUserDetails(user.getId(),
+                user.getUsername(),
                 user.getPassword(),
-                new ArrayList<>());
+                userAuthorities.of(user.getUsername()));
     }
 }
@@ -0,0 +1,18 @@
+package umc.blog.service;
+
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Collection;
+
+// 로그인 성공 후 토큰 발급에 필요한 user id를 함께 전달
+@Getter
+public class LoginUserDetails extends User {
+    private final Long id;
+
+    public LoginUserDetails(Long id, String username, String password, Collection<? extends GrantedAuthority> authorities) {
+        super(username, password, authorities);
+        this.id = id;
+    }
+}
@@ -0,0 +1,66 @@
+package umc.blog.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import umc.blog.exception.ServerBusyException;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+// BCrypt 해시/검증 전용 스레드 풀
+// 동시 해시 작업 수를 코어 수로 제한하고, 대기열이 가득 차면 즉시 거절해 503으로 응답
+@Component
+public class PasswordHashingExecutor implements DisposableBean {
+    private final ThreadPoolExecutor executor;
+    private final long retryAfterSeconds;
+
+    public PasswordHashingExecutor(@Value("${login.hashing.threads:0}") int threads,
+                                   @Value("${login.hashing.queue-capacity:64}") int queueCapacity,
+                                   @Value("${login.retry-after-seconds:1}") long retryAfterSeconds) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.retryAfterSeconds = retryAfterSeconds;
+
+        Gauge.builder("login.hashing.queue.size", executor, e -> e.getQueue().size())
+                .description("BCrypt 작업 대기열 길이")
+                .register(Metrics.globalRegistry);
+    }
+
+    public <T> T execute(Supplier<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task::get);
+        } catch (RejectedExecutionException e) {
+            throw new ServerBusyException("요청이 많아 잠시 후 다시 시도해주세요.", retryAfterSeconds);
+        }
+
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause)
+                throw cause;
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServerBusyException("요청이 중단되었습니다.", retryAfterSeconds);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
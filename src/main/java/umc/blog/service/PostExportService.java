@@ -0,0 +1,102 @@
+package umc.blog.service;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import umc.blog.repository.PostContentRepository;
+import umc.blog.util.SpoolingOutputStream;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+// 전체 글을 NDJSON(한 줄에 글 하나)으로 내보내기, 각 줄의 id를 after로 넘기면 끊긴 지점부터 재개
+@Service
+public class PostExportService {
+    private final PostContentRepository postContentRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int chunkSize;
+    private final int fetchSize;
+    private final int spoolMemoryBytes;
+    private final Counter exportedPosts = Counter.builder("post.export.rows")
+            .description("내보낸 글 수")
+            .register(Metrics.globalRegistry);
+
+    @Autowired
+    public PostExportService(PostContentRepository postContentRepository, ObjectMapper objectMapper,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${post.export.chunk-size:1000}") int chunkSize,
+                             @Value("${post.export.fetch-size:500}") int fetchSize,
+                             @Value("${post.content.spool-memory-bytes:65536}") int spoolMemoryBytes) {
+        this.postContentRepository = postContentRepository;
+        this.objectMapper = objectMapper;
+        // 읽기 전용 트랜잭션이라 replica가 설정되어 있으면 replica에서 읽음
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.chunkSize = Math.max(chunkSize, 1);
+        this.fetchSize = fetchSize;
+        this.spoolMemoryBytes = spoolMemoryBytes;
+    }
+
+    // chunkSize개씩 짧은 트랜잭션으로 임시 버퍼에 쓴 뒤 커넥션을 반납하고 클라이언트로 전송
+    // (전체 내보내기 동안 트랜잭션과 커넥션을 잡고 있지 않도록, 청크 사이에는 다른 트랜잭션의 변경이 보일 수 있음)
+    public void export(Long after, OutputStream out) {
+        long cursor = after == null ? 0 : after;
+        int written;
+        do {
+            try (SpoolingOutputStream spool = new SpoolingOutputStream(spoolMemoryBytes)) {
+                long[] lastId = {cursor};
+                long chunkAfter = cursor;
+                written = readOnlyTransaction.execute(status -> writeChunk(chunkAfter, spool, lastId));
+                spool.copyTo(out);
+                // 청크마다 내보내 클라이언트가 진행 상황과 재개 지점을 알 수 있게 함
+                out.flush();
+                cursor = lastId[0];
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        } while (written == chunkSize);
+    }
+
+    private int writeChunk(long after, OutputStream out, long[] lastId) {
+        int[] written = {0};
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            // 버퍼는 export에서 닫음
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            // 최상위 값 사이의 기본 공백 대신 줄바꿈만 사용
+            generator.setRootValueSeparator(null);
+
+            postContentRepository.exportAfter(after, chunkSize, fetchSize, (post, content) -> {
+                generator.writeStartObject();
+                generator.writeNumberField("id", post.id());
+                generator.writeStringField("title", post.title());
+                generator.writeStringField("writer", post.writer());
+                // 본문은 Reader에서 바로 이스케이프해 쓰므로 글 하나도 메모리에 전부 올리지 않음
+                generator.writeFieldName("content");
+                generator.writeString(new InputStreamReader(content, StandardCharsets.UTF_8), -1);
+                if (post.modifiedAt() != null)
+                    generator.writeStringField("modifiedAt", post.modifiedAt().toString());
+                generator.writeNumberField("viewCount", post.viewCount());
+                generator.writeEndObject();
+                generator.writeRaw('\n');
+
+                exportedPosts.increment();
+                lastId[0] = post.id();
+                written[0]++;
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return written[0];
+    }
+}
@@ -0,0 +1,169 @@
+package umc.blog.service;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import umc.blog.dto.PostDto;
+import umc.blog.dto.PostImportProgressDto;
+import umc.blog.entity.Post;
+import umc.blog.entity.PostEvent;
+import umc.blog.entity.PostEventType;
+import umc.blog.entity.User;
+import umc.blog.exception.InputValidateException;
+import umc.blog.jwt.UserPrincipal;
+import umc.blog.repository.PostEventRepository;
+import umc.blog.repository.PostRepository;
+import umc.blog.repository.UserRepository;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+// NDJSON(한 줄에 글 하나)을 스트리밍으로 읽어 청크 단위로 저장, 진행 상황과 줄별 오류도 NDJSON으로 응답
+@Slf4j
+@Service
+public class PostImportService {
+    // hibernate.jdbc.batch_size(JpaConfig)와 맞춰 배치 하나를 보낼 때마다 영속성 컨텍스트를 비움
+    private static final int FLUSH_INTERVAL = 50;
+
+    private final PostRepository postRepository;
+    private final UserRepository userRepository;
+    private final PostEventRepository postEventRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final ObjectReader postReader;
+    private final int chunkSize;
+    private final Counter importedPosts = Counter.builder("post.import.rows")
+            .description("가져온 글 수")
+            .tag("result", "imported")
+            .register(Metrics.globalRegistry);
+    private final Counter failedPosts = Counter.builder("post.import.rows")
+            .description("가져온 글 수")
+            .tag("result", "failed")
+            .register(Metrics.globalRegistry);
+
+    @Autowired
+    public PostImportService(PostRepository postRepository, UserRepository userRepository,
+                             PostEventRepository postEventRepository, EntityManager entityManager,
+                             PlatformTransactionManager transactionManager, ObjectMapper objectMapper,
+                             @Value("${post.import.chunk-size:1000}") int chunkSize) {
+        this.postRepository = postRepository;
+        this.userRepository = userRepository;
+        this.postEventRepository = postEventRepository;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.postReader = objectMapper.readerFor(PostDto.class);
+        this.chunkSize = chunkSize;
+    }
+
+    // 청크마다 트랜잭션 하나, 중간에 끊기면 마지막 진행 상황의 line 다음 줄부터 다시 보내면 됨
+    public void importPosts(InputStream in, OutputStream out, UserPrincipal user) {
+        try (JsonParser parser = objectMapper.getFactory().createParser(in);
+             JsonGenerator progress = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            // 요청/응답 스트림은 서블릿 컨테이너가 닫음
+            parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            progress.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            progress.setRootValueSeparator(null);
+
+            List<PostDto> chunk = new ArrayList<>(chunkSize);
+            long line = 0;
+            long imported = 0;
+            long failed = 0;
+            boolean done = false;
+            try (MappingIterator<PostDto> posts = postReader.readValues(parser)) {
+                while (posts.hasNextValue()) {
+                    line = parser.currentTokenLocation().getLineNr();
+                    try {
+                        PostDto postDto = posts.nextValue();
+                        PostService.validatePostDtoInput(postDto);
+                        chunk.add(postDto);
+                    } catch (JsonMappingException | InputValidateException e) {
+                        // 형식이 맞지 않는 줄은 건너뛰고 계속 진행 (다음 hasNextValue에서 줄 끝까지 건너뜀)
+                        failed++;
+                        failedPosts.increment();
+                        write(progress, PostImportProgressDto.error(line, "validation error"));
+                        continue;
+                    }
+
+                    if (chunk.size() == chunkSize) {
+                        imported += save(chunk, user);
+                        write(progress, PostImportProgressDto.progress(line, imported, failed));
+                        progress.flush();
+                    }
+                }
+                done = true;
+            } catch (JsonParseException e) {
+                // JSON 문법 오류 이후는 줄 경계를 신뢰할 수 없으므로 앞까지만 저장하고 중단
+                write(progress, PostImportProgressDto.error(e.getLocation().getLineNr(), "malformed json"));
+            }
+
+            if (!chunk.isEmpty())
+                imported += save(chunk, user);
+            write(progress, new PostImportProgressDto(line, imported, failed, null, done));
+            log.info("글 가져오기 {}: {}건 저장, {}건 실패", done ? "완료" : "중단", imported, failed);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private int save(List<PostDto> chunk, UserPrincipal user) {
+        transactionTemplate.executeWithoutResult(status -> {
+            // 작성자는 SELECT 없이 프록시 참조로 연결
+            User writer = userRepository.getReferenceById(user.getId());
+            long firstId = Long.MAX_VALUE;
+            long lastId = Long.MIN_VALUE;
+            for (int i = 0; i < chunk.size(); i++) {
+                PostDto postDto = chunk.get(i);
+                Post newPost = postRepository.save(Post.builder().
+                        writer(writer).
+                        title(postDto.getTitle()).
+                        content(postDto.getContent()).
+                        build());
+                firstId = Math.min(firstId, newPost.getId());
+                lastId = Math.max(lastId, newPost.getId());
+
+                if ((i + 1) % FLUSH_INTERVAL == 0) {
+                    entityManager.flush();
+                    entityManager.clear();
+                }
+            }
+            // 글마다 이벤트를 남기면 인스턴스마다 글 하나씩 다시 읽어 색인하므로 청크당 이벤트 하나로 id 범위를 한 번에 색인
+            postEventRepository.save(PostEvent.builder().
+                    postId(firstId).
+                    lastPostId(lastId).
+                    type(PostEventType.IMPORTED).
+                    createdAt(Instant.now()).
+                    build());
+        });
+
+        int saved = chunk.size();
+        importedPosts.increment(saved);
+        chunk.clear();
+        return saved;
+    }
+
+    private static void write(JsonGenerator progress, PostImportProgressDto line) throws IOException {
+        progress.writeObject(line);
+        progress.writeRaw('\n');
+    }
+}
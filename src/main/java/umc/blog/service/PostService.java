@@ -1,73 +1,276 @@
 package umc.blog.service;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import umc.blog.cache.PostCache;
+import umc.blog.config.ReplicaRoutingDataSource;
+import umc.blog.dto.PostBatchResultDto;
 import umc.blog.dto.PostDto;
 import umc.blog.dto.PostEditDto;
+import umc.blog.dto.PostPageDto;
+import umc.blog.dto.PostSearchPageDto;
+import umc.blog.dto.PostSummaryDto;
+import umc.blog.dto.PostVersionDto;
+import umc.blog.dto.PostWriterIdDto;
 import umc.blog.entity.Post;
+import umc.blog.entity.PostEvent;
+import umc.blog.entity.PostEventType;
 import umc.blog.entity.User;
 import umc.blog.exception.InputValidateException;
 import umc.blog.exception.PermissionException;
 import umc.blog.exception.TargetNotFoundException;
+import umc.blog.jwt.UserPrincipal;
+import umc.blog.repository.PostContentRepository;
+import umc.blog.repository.PostEventRepository;
 import umc.blog.repository.PostRepository;
+import umc.blog.repository.UserRepository;
+import umc.blog.search.PostSearchIndex;
+import umc.blog.util.SpoolingOutputStream;
+import umc.blog.util.TransactionUtil;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 @Service
 public class PostService {
     private final PostRepository postRepository;
+    private final UserRepository userRepository;
+    private final PostContentRepository postContentRepository;
+    private final PostCache postCache;
+    private final PostSearchIndex postSearchIndex;
+    private final PostEventRepository postEventRepository;
+    private final int maxPageSize;
+    private final int maxBatchSize;
+    private final int inlineContentMaxLength;
+    private final int spoolMemoryBytes;
 
     @Autowired
-    public PostService(PostRepository postRepository) {
+    public PostService(PostRepository postRepository, UserRepository userRepository,
+                       PostContentRepository postContentRepository, PostCache postCache,
+                       PostSearchIndex postSearchIndex, PostEventRepository postEventRepository,
+                       @Value("${post.page.max-size:100}") int maxPageSize,
+                       @Value("${post.batch.max-size:1000}") int maxBatchSize,
+                       @Value("${post.content.inline-max-length:65536}") int inlineContentMaxLength,
+                       @Value("${post.content.spool-memory-bytes:65536}") int spoolMemoryBytes) {
         this.postRepository = postRepository;
+        this.userRepository = userRepository;
+        this.postContentRepository = postContentRepository;
+        this.postCache = postCache;
+        this.postSearchIndex = postSearchIndex;
+        this.postEventRepository = postEventRepository;
+        this.maxPageSize = maxPageSize;
+        this.maxBatchSize = maxBatchSize;
+        this.inlineContentMaxLength = inlineContentMaxLength;
+        this.spoolMemoryBytes = spoolMemoryBytes;
+    }
+
+    // 글 목록 조회 (cursor보다 작은 id부터 최신순)
+    @Transactional(readOnly = true)
+    public PostPageDto findPage(Long cursor, int size, String writer) {
+        int pageSize = Math.min(Math.max(size, 1), maxPageSize);
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<PostSummaryDto> posts = findSummaries(cursor, User.normalize(writer), PageRequest.of(0, pageSize + 1));
+        if (posts.size() <= pageSize)
+            return new PostPageDto(posts, null);
+
+        List<PostSummaryDto> page = new ArrayList<>(posts.subList(0, pageSize));
+        return new PostPageDto(page, page.get(pageSize - 1).getId());
+    }
+
+    // 글 검색 (메모리 색인만 사용, DB 조회 없음)
+    public PostSearchPageDto search(String query, String cursor, int size) {
+        if (query == null || query.isBlank())
+            throw new InputValidateException("validation error");
+
+        try {
+            return postSearchIndex.search(query, cursor, Math.min(Math.max(size, 1), maxPageSize));
+        } catch (IllegalArgumentException e) {
+            throw new InputValidateException("validation error");
+        }
     }
 
-    // 특정 글 조회 (id)
+    // 특정 글 조회 (id), 긴 본문은 응답과 캐시에 싣지 않음
+    // 캐시는 모든 유저가 공유하므로 복제 지연된 값이 TTL 동안 남지 않도록 primary에서 읽어 채움
     public PostDto findOne(Long id) {
-        Post targetPost = postRepository.findById(id).orElseThrow(() -> new TargetNotFoundException("target not found"));
-        return new PostDto(targetPost.getTitle(), targetPost.getWriter().getUsername(), targetPost.getContent());
+        PostDto post = postCache.get(id, key -> ReplicaRoutingDataSource.usePrimary(() ->
+                postRepository.findPostDtoById(key, inlineContentMaxLength).orElse(null)));
+        if (post == null)
+            throw new TargetNotFoundException("target not found");
+        return post;
+    }
+
+    // 본문을 스트림으로 복사, DB에서 임시 버퍼로 먼저 읽어 커넥션을 반납한 뒤 클라이언트로 전송
+    // (느린 클라이언트가 커넥션을 잡고 있지 않도록, 버퍼는 spoolMemoryBytes를 넘으면 임시 파일 사용)
+    public void copyContent(Long id, OutputStream out) {
+        try (SpoolingOutputStream spool = new SpoolingOutputStream(spoolMemoryBytes)) {
+            if (!postContentRepository.copyContent(id, spool))
+                throw new TargetNotFoundException("target not found");
+            spool.copyTo(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 글 버전 조회 (캐시에 있으면 DB 조회 없음)
+    public Long findVersion(Long id) {
+        PostDto cached = postCache.getIfPresent(id);
+        if (cached != null)
+            return cached.getVersion();
+        return postRepository.findVersionById(id).orElseThrow(() -> new TargetNotFoundException("target not found"));
+    }
+
+    // 글 버전과 저장된 조회수 조회 (캐시에 있으면 DB 조회 없음)
+    public PostVersionDto findVersionAndViewCount(Long id) {
+        PostDto cached = postCache.getIfPresent(id);
+        if (cached != null)
+            return new PostVersionDto(cached.getVersion(), cached.getViewCount());
+        return postRepository.findVersionAndViewCountById(id).orElseThrow(() -> new TargetNotFoundException("target not found"));
     }
 
     // 글 생성
     @Transactional
-    public PostDto write(PostDto postDto, User user) {
+    public PostDto write(PostDto postDto, UserPrincipal user) {
         validatePostDtoInput(postDto);
 
+        // 작성자는 SELECT 없이 프록시 참조로 연결
         Post newPost = Post.builder().
-                        writer(user).
+                        writer(userRepository.getReferenceById(user.getId())).
                         title(postDto.getTitle()).
                         content(postDto.getContent()).
                         build();
 
         postRepository.save(newPost);
+        publish(newPost.getId(), PostEventType.CREATED);
 
         return new PostDto(postDto.getTitle(), user.getUsername(), postDto.getContent());
     }
 
-    // 글 수정
+    // 글 일괄 생성 (하나의 트랜잭션, INSERT는 flush 시점에 JDBC 배치로 전송)
     @Transactional
-    public PostDto edit(Long id, PostEditDto editDto, User user) {
-        validatePostEditDtoInput(editDto);
+    public List<PostBatchResultDto> writeAll(List<PostDto> postDtos, UserPrincipal user) {
+        validateBatchSize(postDtos);
 
-        Post targetPost = postRepository.findById(id).orElseThrow(
-                () -> new TargetNotFoundException("target not found")
-        );
+        User writer = userRepository.getReferenceById(user.getId());
+        List<PostBatchResultDto> results = new ArrayList<>(postDtos.size());
+        for (int i = 0; i < postDtos.size(); i++) {
+            PostDto postDto = postDtos.get(i);
+            if (postDto == null || postDto.getTitle() == null || postDto.getContent() == null) {
+                results.add(new PostBatchResultDto(i, null, false, "validation error"));
+                continue;
+            }
+
+            Post newPost = postRepository.save(Post.builder().
+                    writer(writer).
+                    title(postDto.getTitle()).
+                    content(postDto.getContent()).
+                    build());
+            publish(newPost.getId(), PostEventType.CREATED);
+            results.add(new PostBatchResultDto(i, newPost.getId(), true, null));
+        }
+        return results;
+    }
 
-        validatePostAuth(targetPost, user);
+    // 글 수정
+    @Transactional
+    public PostDto edit(Long id, PostEditDto editDto, UserPrincipal user) {
+        validatePostEditDtoInput(editDto);
+        validateId(id);
 
-        targetPost.setTitle(editDto.getTitle());
-        targetPost.setContent(editDto.getContent());
+        int updated = postRepository.updateByIdAndWriterId(id, user.getId(), editDto.getVersion(),
+                editDto.getTitle(), editDto.getContent(),
+                Post.excerptOf(editDto.getContent()), editDto.getContent().length(), Instant.now());
+        if (updated == 0)
+            throw notFoundPermissionDeniedOrConflict(id, user);
+        evictAfterCommit(id);
+        publish(id, PostEventType.UPDATED);
 
-        return new PostDto(targetPost.getTitle(), user.getUsername(), targetPost.getContent());
+        return new PostDto(editDto.getTitle(), user.getUsername(), editDto.getContent());
     }
 
     // 글 삭제
     @Transactional
-    public void delete(Long id, User user) {
-        Post targetPost = postRepository.findById(id).orElseThrow(() -> new TargetNotFoundException("target not found"));
+    public void delete(Long id, UserPrincipal user) {
+        validateId(id);
+        int deleted = postRepository.deleteByIdAndWriterId(id, user.getId());
+        if (deleted == 0)
+            throw notFoundOrPermissionDenied(id, user);
+        evictAfterCommit(id);
+        publish(id, PostEventType.DELETED);
+    }
+
+    // 글 일괄 삭제 (작성자 확인 1회 + DELETE 1회)
+    @Transactional
+    public List<PostBatchResultDto> deleteAll(List<Long> ids, UserPrincipal user) {
+        validateBatchSize(ids);
+
+        List<Long> targetIds = ids.stream().filter(Objects::nonNull).distinct().toList();
+        Map<Long, Long> writerIds = new HashMap<>();
+        if (!targetIds.isEmpty()) {
+            for (PostWriterIdDto post : postRepository.findWriterIdsByIdIn(targetIds))
+                writerIds.put(post.getId(), post.getWriterId());
+        }
+
+        List<Long> deletableIds = new ArrayList<>();
+        List<PostBatchResultDto> results = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            Long id = ids.get(i);
+            if (id == null || !writerIds.containsKey(id)) {
+                results.add(new PostBatchResultDto(i, id, false, "target not found"));
+            } else if (!user.getId().equals(writerIds.get(id))) {
+                results.add(new PostBatchResultDto(i, id, false, "권한이 없습니다."));
+            } else {
+                deletableIds.add(id);
+                results.add(new PostBatchResultDto(i, id, true, null));
+            }
+        }
+
+        if (!deletableIds.isEmpty()) {
+            postRepository.deleteAllByIdInBatch(deletableIds);
+            deletableIds.forEach(this::evictAfterCommit);
+            deletableIds.forEach(id -> publish(id, PostEventType.DELETED));
+        }
+        return results;
+    }
 
-        validatePostAuth(targetPost, user);
+    // 롤백된 변경이 캐시에 반영되지 않도록 커밋 이후에 처리 (다른 인스턴스는 이벤트로 제거)
+    private void evictAfterCommit(Long id) {
+        TransactionUtil.afterCommit(() -> postCache.evict(id));
+    }
+
+    // 글 변경과 같은 트랜잭션에서 outbox에 기록, 색인 등 후속 처리는 PostEventRelay가 커밋 이후 비동기로 전달
+    private void publish(Long postId, PostEventType type) {
+        postEventRepository.save(PostEvent.builder().
+                postId(postId).
+                type(type).
+                createdAt(Instant.now()).
+                build());
+    }
+
+    // 커서/작성자 필터 유무에 맞는 쿼리 선택
+    private List<PostSummaryDto> findSummaries(Long cursor, String writer, Pageable pageable) {
+        if (writer == null)
+            return cursor == null ? postRepository.findSummaries(pageable) : postRepository.findSummariesBefore(cursor, pageable);
+        return cursor == null ? postRepository.findSummariesByWriter(writer, pageable)
+                : postRepository.findSummariesByWriterBefore(cursor, writer, pageable);
+    }
 
-        postRepository.deleteById(id);
+    private void validateBatchSize(List<?> items) {
+        if (items == null || items.isEmpty() || items.size() > maxBatchSize)
+            throw new InputValidateException("validation error");
     }
 
     private void validatePostEditDtoInput(PostEditDto editDto) {
@@ -75,13 +278,33 @@ public class PostService {
             throw new InputValidateException("validation error");
     }
 
-    private void validatePostDtoInput(PostDto postDto) {
-        if (postDto.getTitle() == null || postDto.getContent() == null)
+    // PostImportService도 같은 규칙으로 검증
+    static void validatePostDtoInput(PostDto postDto) {
+        if (postDto == null || postDto.getTitle() == null || postDto.getContent() == null)
             throw new InputValidateException("validation error");
     }
 
-    private void validatePostAuth(Post post, User user) {
-        if (!post.getWriter().equals(user))
-            throw new PermissionException("권한이 없습니다.");
+    // 조건부 UPDATE/DELETE는 id가 null이면 조용히 0건이 되므로 미리 거부 (existsById(null)과 같은 예외)
+    private static void validateId(Long id) {
+        if (id == null)
+            throw new InvalidDataAccessApiUsageException("The given id must not be null");
+    }
+
+    // 조건부 UPDATE가 반영되지 않은 경우 원인 확인 (작성자 조회 한 번), 작성자가 맞으면 버전이 달라진 것
+    private RuntimeException notFoundPermissionDeniedOrConflict(Long id, UserPrincipal user) {
+        List<PostWriterIdDto> posts = postRepository.findWriterIdsByIdIn(List.of(id));
+        if (posts.isEmpty())
+            return new TargetNotFoundException("target not found");
+        if (!user.getId().equals(posts.get(0).getWriterId()))
+            return new PermissionException("권한이 없습니다.");
+        return new ObjectOptimisticLockingFailureException(Post.class, id);
+    }
+
+    // 조건부 DELETE가 반영되지 않은 경우에만 원인 확인을 위해 추가 조회 (작성자 조회 한 번)
+    private RuntimeException notFoundOrPermissionDenied(Long id, UserPrincipal user) {
+        List<PostWriterIdDto> posts = postRepository.findWriterIdsByIdIn(List.of(id));
+        if (posts.isEmpty())
+            return new TargetNotFoundException("target not found");
+        return new PermissionException("권한이 없습니다.");
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,138 @@
+package umc.blog.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// 조회수는 메모리에서 글별 LongAdder로 모은 뒤 주기적으로 한 번의 배치 UPDATE로 반영
+// 조회 요청마다 같은 행을 UPDATE해 잠금 경합이 생기지 않도록 함 (종료 직전 몇 초치 조회수는 유실될 수 있음)
+@Slf4j
+@Component
+public class PostViewCounter {
+    private static final int SELECT_CHUNK_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<Long, LongAdder> pendingViews = new ConcurrentHashMap<>();
+    // 모아 둔 값에서 빼냈지만 아직 커밋되지 않은 조회수, 반영 중에도 표시 조회수가 줄지 않도록 함
+    private final Map<Long, Long> inFlightViews = new ConcurrentHashMap<>();
+    // 반영 직후 다시 읽은 저장 조회수, 캐시된 글(PostCache)을 버리지 않고 조회수만 갱신하는 데 사용
+    private final Cache<Long, Long> storedViews;
+
+    public PostViewCounter(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                           @Value("${post.view-count.max-tracked-posts:100000}") long maxTrackedPosts) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.storedViews = Caffeine.newBuilder()
+                .maximumSize(maxTrackedPosts)
+                .expireAfterAccess(Duration.ofMinutes(10))
+                .build();
+    }
+
+    // 정리(flush)와 같은 잠금 안에서 더해 제거된 LongAdder에 더해지는 일이 없도록 함
+    public void increment(Long id) {
+        pendingViews.compute(id, (key, views) -> {
+            if (views == null)
+                views = new LongAdder();
+            views.increment();
+            return views;
+        });
+    }
+
+    // 아직 DB에 반영되지 않은 조회수
+    public long pending(Long id) {
+        LongAdder views = pendingViews.get(id);
+        return views == null ? 0 : views.sum();
+    }
+
+    // 표시 조회수 = 저장 조회수 + 반영 중인 조회수 + 대기 조회수, 조회수는 줄지 않으므로 캐시된 값과 마지막으로 읽은 값 중 큰 쪽을 사용
+    public long viewCount(Long id, Long cachedViewCount) {
+        long stored = cachedViewCount == null ? 0 : cachedViewCount;
+        Long refreshed = storedViews.getIfPresent(id);
+        if (refreshed != null)
+            stored = Math.max(stored, refreshed);
+        return stored + inFlightViews.getOrDefault(id, 0L) + pending(id);
+    }
+
+    @Scheduled(fixedDelayString = "${post.view-count.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        List<Object[]> batch = new ArrayList<>();
+        for (Map.Entry<Long, LongAdder> entry : pendingViews.entrySet()) {
+            Long id = entry.getKey();
+            // 반영 중 값에 먼저 더한 뒤 대기 조회수에서 빼 반영하는 동안 표시 조회수에서 빠지지 않도록 함 (그 사이 들어온 조회는 대기 조회수에 남음)
+            long delta = entry.getValue().sum();
+            if (delta > 0) {
+                inFlightViews.merge(id, delta, Long::sum);
+                entry.getValue().add(-delta);
+                batch.add(new Object[]{delta, id});
+            } else {
+                // 한 주기 동안 조회가 없던 글은 정리, increment와 같은 잠금 안에서 다시 확인
+                pendingViews.computeIfPresent(id, (key, views) -> views.sum() == 0 ? null : views);
+            }
+        }
+        if (batch.isEmpty())
+            return;
+
+        // 여러 인스턴스가 동시에 반영해도 교착되지 않도록 id 순으로 UPDATE
+        batch.sort((a, b) -> Long.compare((Long) a[1], (Long) b[1]));
+        List<Long> ids = batch.stream().map(row -> (Long) row[1]).toList();
+        try {
+            // 일부 행만 반영된 채 실패하면 재시도 시 중복 집계되므로 배치 전체를 한 트랜잭션으로 묶음
+            Map<Long, Long> refreshed = transactionTemplate.execute(status -> {
+                jdbcTemplate.batchUpdate("update post set view_count = view_count + ? where post_id = ?", batch);
+                return readViewCounts(ids);
+            });
+            // 커밋된 뒤에만 표시 조회수에 반영, 저장 조회수를 갱신한 다음 반영 중 값을 지움
+            refreshed.forEach((id, views) -> storedViews.asMap().merge(id, views, Math::max));
+            ids.forEach(inFlightViews::remove);
+        } catch (RuntimeException e) {
+            // 다음 주기에 다시 반영, 대기 조회수로 되돌린 다음 반영 중 값을 지움
+            batch.forEach(row -> {
+                Long id = (Long) row[1];
+                pendingViews.compute(id, (key, views) -> {
+                    if (views == null)
+                        views = new LongAdder();
+                    views.add((Long) row[0]);
+                    return views;
+                });
+                inFlightViews.remove(id);
+            });
+            log.warn("조회수 반영 실패, 다음 주기에 재시도 ({}건)", batch.size(), e);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    // 다른 인스턴스가 반영한 조회수도 함께 읽힘
+    private Map<Long, Long> readViewCounts(List<Long> ids) {
+        Map<Long, Long> viewCounts = new HashMap<>();
+        for (int from = 0; from < ids.size(); from += SELECT_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(ids.size(), from + SELECT_CHUNK_SIZE));
+            String placeholders = String.join(",", Collections.nCopies(chunk.size(), "?"));
+            jdbcTemplate.query("select post_id, view_count from post where post_id in (" + placeholders + ")",
+                    rs -> {
+                        viewCounts.put(rs.getLong(1), rs.getLong(2));
+                    }, chunk.toArray());
+        }
+        return viewCounts;
+    }
+}
@@ -0,0 +1,159 @@
+package umc.blog.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import umc.blog.dto.TokenDto;
+import umc.blog.entity.RefreshToken;
+import umc.blog.entity.RevokedToken;
+import umc.blog.entity.User;
+import umc.blog.exception.InvalidTokenException;
+import umc.blog.jwt.TokenDenylist;
+import umc.blog.jwt.TokenProvider;
+import umc.blog.jwt.UserPrincipal;
+import umc.blog.repository.RefreshTokenRepository;
+import umc.blog.repository.RevokedTokenRepository;
+import umc.blog.repository.UserRepository;
+import umc.blog.util.TransactionUtil;
+
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+@Slf4j
+@Service
+public class TokenService {
+    private static final int REFRESH_TOKEN_BYTES = 32;
+
+    private final TokenProvider tokenProvider;
+    private final TokenDenylist tokenDenylist;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final UserRepository userRepository;
+    private final UserAuthorities userAuthorities;
+    private final long refreshTokenValidityInMilliseconds;
+    private final SecureRandom secureRandom = new SecureRandom();
+    // 다른 인스턴스에서 폐기된 토큰을 가져오기 위한 마지막 동기화 시각
+    private volatile Instant lastSyncedAt = Instant.EPOCH;
+
+    public TokenService(TokenProvider tokenProvider, TokenDenylist tokenDenylist,
+                        RefreshTokenRepository refreshTokenRepository,
+                        RevokedTokenRepository revokedTokenRepository, UserRepository userRepository,
+                        UserAuthorities userAuthorities,
+                        @Value("${jwt.refresh-token-validity-in-seconds:1209600}") long refreshTokenValidityInSeconds) {
+        this.tokenProvider = tokenProvider;
+        this.tokenDenylist = tokenDenylist;
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.userRepository = userRepository;
+        this.userAuthorities = userAuthorities;
+        this.refreshTokenValidityInMilliseconds = refreshTokenValidityInSeconds * 1000;
+    }
+
+    // access token과 refresh token 발급 (refresh token은 해시만 저장)
+    @Transactional
+    public TokenDto issue(Authentication authentication, Long userId) {
+        return issue(authentication, userRepository.getReferenceById(userId), userId);
+    }
+
+    // refresh token 회전: 사용한 토큰은 폐기하고 새 토큰 쌍을 발급
+    // 이미 사용된 토큰이 다시 들어오면 탈취로 보고 해당 유저의 모든 세션을 폐기
+    @Transactional(noRollbackFor = InvalidTokenException.class)
+    public TokenDto refresh(String refreshToken) {
+        if (refreshToken == null || refreshToken.isBlank())
+            throw new InvalidTokenException("유효하지 않은 refresh token입니다.");
+
+        RefreshToken stored = refreshTokenRepository.findWithUserByTokenHash(TokenProvider.digest(refreshToken))
+                .orElseThrow(() -> new InvalidTokenException("유효하지 않은 refresh token입니다."));
+        if (stored.getExpiresAt().isBefore(Instant.now()))
+            throw new InvalidTokenException("만료된 refresh token입니다.");
+
+        User user = stored.getUser();
+        if (refreshTokenRepository.revokeIfActive(stored.getId()) == 0) {
+            log.warn("재사용된 refresh token, 유저 {}의 모든 세션 폐기", user.getId());
+            revokeAllSessions(user.getId());
+            throw new InvalidTokenException("유효하지 않은 refresh token입니다.");
+        }
+        revokeAccessToken(stored.getAccessTokenId(), Instant.now().plusMillis(tokenProvider.getTokenValidityInMilliseconds()));
+
+        Authentication authentication = new UsernamePasswordAuthenticationToken(user.getUsername(), null,
+                userAuthorities.of(user.getUsername()));
+        return issue(authentication, user, user.getId());
+    }
+
+    // 로그아웃: 현재 access token과 함께 발급된 refresh token을 폐기
+    @Transactional
+    public void revoke(UserPrincipal user) {
+        if (user.getTokenId() == null)
+            return;
+        refreshTokenRepository.revokeByAccessTokenId(user.getTokenId());
+        Instant expiresAt = user.getTokenExpiresAt() != null ? user.getTokenExpiresAt()
+                : Instant.now().plusMillis(tokenProvider.getTokenValidityInMilliseconds());
+        revokeAccessToken(user.getTokenId(), expiresAt);
+    }
+
+    // 기동 시 만료 전의 폐기 목록을 메모리에 적재
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void loadDenylist() {
+        Instant now = Instant.now();
+        revokedTokenRepository.findByExpiresAtAfter(now)
+                .forEach(token -> tokenDenylist.revoke(token.getTokenId(), token.getExpiresAt().toEpochMilli()));
+        lastSyncedAt = now;
+    }
+
+    // 다른 인스턴스의 폐기 내역 반영 + 만료 항목 정리
+    @Scheduled(fixedDelayString = "${jwt.denylist.sweep-interval-ms:60000}")
+    @Transactional
+    public void sweep() {
+        Instant now = Instant.now();
+        // 커밋 지연으로 누락되지 않도록 이전 동기화 시각보다 조금 앞부터 조회
+        for (RevokedToken token : revokedTokenRepository.findByRevokedAtAfter(lastSyncedAt.minusSeconds(5)))
+            tokenDenylist.revoke(token.getTokenId(), token.getExpiresAt().toEpochMilli());
+        lastSyncedAt = now;
+
+        tokenDenylist.sweep(now.toEpochMilli());
+        revokedTokenRepository.deleteExpired(now);
+        refreshTokenRepository.deleteExpired(now);
+    }
+
+    private TokenDto issue(Authentication authentication, User user, Long userId) {
+        String accessTokenId = UUID.randomUUID().toString();
+        String accessToken = tokenProvider.createToken(authentication, userId, accessTokenId);
+
+        byte[] bytes = new byte[REFRESH_TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        String refreshToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        refreshTokenRepository.save(RefreshToken.builder().
+                user(user).
+                tokenHash(TokenProvider.digest(refreshToken)).
+                accessTokenId(accessTokenId).
+                expiresAt(Instant.now().plusMillis(refreshTokenValidityInMilliseconds)).
+                build());
+        return new TokenDto(accessToken, refreshToken);
+    }
+
+    private void revokeAllSessions(Long userId) {
+        List<String> accessTokenIds = new ArrayList<>(refreshTokenRepository.findActiveAccessTokenIdsByUserId(userId));
+        refreshTokenRepository.revokeAllByUserId(userId);
+        Instant expiresAt = Instant.now().plusMillis(tokenProvider.getTokenValidityInMilliseconds());
+        accessTokenIds.forEach(tokenId -> revokeAccessToken(tokenId, expiresAt));
+    }
+
+    private void revokeAccessToken(String tokenId, Instant expiresAt) {
+        if (tokenId == null || revokedTokenRepository.existsById(tokenId))
+            return;
+        revokedTokenRepository.save(new RevokedToken(tokenId, expiresAt, Instant.now()));
+        TransactionUtil.afterCommit(() -> tokenDenylist.revoke(tokenId, expiresAt.toEpochMilli()));
+    }
+}
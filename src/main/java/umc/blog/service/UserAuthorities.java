@@ -0,0 +1,33 @@
+package umc.blog.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.stereotype.Component;
+import umc.blog.entity.User;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// 로그인/토큰 재발급 시 부여하는 권한
+// security.admin-usernames에 있는 유저(야간 백업 작업 등)만 ROLE_ADMIN을 받아 전체 글 내보내기/가져오기 가능
+@Component
+public class UserAuthorities {
+    public static final String ADMIN = "ADMIN";
+
+    private final Set<String> adminUsernames;
+
+    public UserAuthorities(@Value("${security.admin-usernames:}") List<String> adminUsernames) {
+        this.adminUsernames = adminUsernames.stream()
+                .map(User::normalize)
+                .filter(username -> username != null && !username.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    public List<GrantedAuthority> of(String username) {
+        if (adminUsernames.contains(User.normalize(username)))
+            return AuthorityUtils.createAuthorityList("ROLE_USER", "ROLE_" + ADMIN);
+        return AuthorityUtils.createAuthorityList("ROLE_USER");
+    }
+}
@@ -1,63 +1,102 @@
 package umc.blog.service;
 
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.RequestBody;
+import umc.blog.config.ReplicaRoutingDataSource;
+import umc.blog.dto.TokenDto;
 import umc.blog.dto.UserDto;
 import umc.blog.entity.User;
 import umc.blog.exception.InputValidateException;
-import umc.blog.exception.TargetNotFoundException;
+import umc.blog.exception.ServerBusyException;
 import umc.blog.exception.UserAlreadyExistException;
-import umc.blog.jwt.TokenProvider;
 import umc.blog.repository.UserRepository;
 
-import java.util.Collections;
+import java.util.Locale;
 
 @Service
 @Transactional
 public class UserService {
     private final UserRepository userRepository;
-    private final TokenProvider tokenProvider;
+    private final TokenService tokenService;
     private final PasswordEncoder passwordEncoder;
-    public UserService(UserRepository userRepository, TokenProvider tokenProvider, PasswordEncoder passwordEncoder) {
+    private final AuthenticationManager authenticationManager;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+
+    public UserService(UserRepository userRepository, TokenService tokenService, PasswordEncoder passwordEncoder,
+                       AuthenticationManager authenticationManager, PasswordHashingExecutor passwordHashingExecutor) {
         this.userRepository = userRepository;
-        this.tokenProvider = tokenProvider;
+        this.tokenService = tokenService;
         this.passwordEncoder = passwordEncoder;
+        this.authenticationManager = authenticationManager;
+        this.passwordHashingExecutor = passwordHashingExecutor;
     }
 
+    // 해시 계산 동안 커넥션을 점유하지 않도록 트랜잭션 밖에서 실행
+    // 중복 검사는 username_normalized 유니크 인덱스에 맡기고 INSERT 한 번만 수행
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public User join(@RequestBody UserDto userDto) {
         validateUserDtoInput(userDto);
 
-        userRepository.findByUsername(userDto.getUsername()).ifPresent(existingUser -> {
-            throw new UserAlreadyExistException("이미 가입되어 있는 유저입니다.");
-        });
-
-        User user = new User(userDto.getUsername(), passwordEncoder.encode(userDto.getPassword()));
+        String encodedPassword = passwordHashingExecutor.execute(() -> passwordEncoder.encode(userDto.getPassword()));
+        User user = new User(userDto.getUsername(), encodedPassword);
 
-        return userRepository.save(user);
+        try {
+            return userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            if (isDuplicateUsername(e, user))
+                throw new UserAlreadyExistException("이미 가입되어 있는 유저입니다.");
+            throw e;
+        }
     }
 
-    public String login(@RequestBody UserDto userDto) {
+    // 비밀번호 검증은 전용 스레드 풀에서 수행, 검증 실패 시 AuthenticationException
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public TokenDto login(@RequestBody UserDto userDto) {
         validateUserDtoInput(userDto);
 
-        SimpleGrantedAuthority simpleGrantedAuthority = new SimpleGrantedAuthority("ROLE_USER");
-
-        Authentication authentication = new UsernamePasswordAuthenticationToken(userDto.getUsername(),userDto.getPassword(),
-                Collections.singleton(simpleGrantedAuthority));
+        Timer.Sample sample = Timer.start();
+        String outcome = "success";
+        try {
+            Authentication authentication = passwordHashingExecutor.execute(() -> authenticationManager.authenticate(
+                    new UsernamePasswordAuthenticationToken(userDto.getUsername(), userDto.getPassword())));
+            LoginUserDetails loginUser = (LoginUserDetails) authentication.getPrincipal();
 
-        SecurityContextHolder.getContext().setAuthentication(authentication);
-
-        User user = userRepository.findByUsername(userDto.getUsername()).orElseThrow(
-                () -> new TargetNotFoundException("없는 유저입니다.")
-        );
+            return tokenService.issue(authentication, loginUser.getId());
+        } catch (AuthenticationException e) {
+            outcome = "bad_credentials";
+            throw e;
+        } catch (ServerBusyException e) {
+            outcome = "rejected";
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("login.latency")
+                    .description("로그인 요청 처리 시간 (대기열 대기 + 해시 검증)")
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(Metrics.globalRegistry));
+        }
+    }
 
-        return tokenProvider.createToken(authentication, user);
+    // 드라이버 메시지 대신 Hibernate가 추출한 제약 조건 이름으로 판단
+    // 이름을 얻지 못한 경우(방언별 추출 실패 등) primary에서 정규화 값으로 다시 확인
+    private boolean isDuplicateUsername(DataIntegrityViolationException e, User user) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null
+                    && violation.getConstraintName().toLowerCase(Locale.ROOT).contains("ux_user_username_normalized"))
+                return true;
+        }
+        return ReplicaRoutingDataSource.usePrimary(() -> userRepository.existsByUsernameNormalized(user.getUsernameNormalized()));
     }
 
     public void validateUserDtoInput(UserDto userDto) {
@@ -0,0 +1,64 @@
+package umc.blog.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import umc.blog.entity.User;
+import umc.blog.repository.UserRepository;
+
+import java.util.List;
+
+// username_normalized가 비어 있는 기존 유저를 기동 시 채움 (비어 있으면 로그인 조회에 걸리지 않음)
+// 한 명씩 커밋해 대소문자만 다른 기존 중복 계정이 있어도 나머지는 계속 진행, 충돌한 계정은 username으로 로그인
+@Slf4j
+@Component
+public class UsernameBackfill {
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    // 정규화 값이 없는 유저가 남아 있을 수 있는 동안 true (로그인 시 username 조회로 대체)
+    private volatile boolean legacyUsersRemaining = true;
+
+    public UsernameBackfill(UserRepository userRepository, PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        int updated = 0;
+        int skipped = 0;
+        long afterId = 0;
+        List<User> users;
+        while (!(users = userRepository.findTop500ByUsernameNormalizedIsNullAndIdGreaterThanOrderByIdAsc(afterId)).isEmpty()) {
+            for (User user : users) {
+                afterId = user.getId();
+                String usernameNormalized = User.normalize(user.getUsername());
+                if (usernameNormalized == null) {
+                    skipped++;
+                    continue;
+                }
+                try {
+                    Integer count = transactionTemplate.execute(status ->
+                            userRepository.updateUsernameNormalized(user.getId(), usernameNormalized));
+                    if (count != null && count > 0)
+                        updated++;
+                } catch (DataIntegrityViolationException e) {
+                    // 대소문자만 다른 기존 중복 계정은 수동 정리 필요
+                    log.warn("username 정규화 중 중복 발견, 유저 {} 건너뜀", user.getId());
+                    skipped++;
+                }
+            }
+        }
+        legacyUsersRemaining = skipped > 0;
+        if (updated > 0 || skipped > 0)
+            log.info("username 정규화 {}건 완료, {}건 건너뜀", updated, skipped);
+    }
+
+    public boolean isLegacyUsersRemaining() {
+        return legacyUsersRemaining;
+    }
+}
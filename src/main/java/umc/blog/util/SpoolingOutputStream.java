@@ -0,0 +1,59 @@
+package umc.blog.util;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+// 임계값까지는 메모리에, 넘으면 임시 파일에 쓰는 버퍼
+// DB에서 읽는 시간과 느린 클라이언트로 보내는 시간을 분리해 커넥션을 오래 잡지 않도록 사용
+public class SpoolingOutputStream extends OutputStream {
+    private final int memoryThresholdBytes;
+    private ByteArrayOutputStream memory = new ByteArrayOutputStream();
+    private Path file;
+    private OutputStream fileOut;
+
+    public SpoolingOutputStream(int memoryThresholdBytes) {
+        this.memoryThresholdBytes = memoryThresholdBytes;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        write(new byte[]{(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        if (fileOut == null && memory.size() + len > memoryThresholdBytes) {
+            file = Files.createTempFile("spool-", ".tmp");
+            fileOut = new BufferedOutputStream(Files.newOutputStream(file));
+            memory.writeTo(fileOut);
+            memory = null;
+        }
+        if (fileOut != null)
+            fileOut.write(b, off, len);
+        else
+            memory.write(b, off, len);
+    }
+
+    // 지금까지 쓴 내용을 out으로 복사
+    public void copyTo(OutputStream out) throws IOException {
+        if (fileOut == null) {
+            memory.writeTo(out);
+            return;
+        }
+        fileOut.flush();
+        Files.copy(file, out);
+    }
+
+    // 임시 파일 삭제
+    @Override
+    public void close() throws IOException {
+        if (fileOut == null)
+            return;
+        try {
+            fileOut.close();
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package umc.blog;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import umc.blog.entity.PostContentConverter;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class PostContentConverterTest {
+    private final PostContentConverter converter = new PostContentConverter(16);
+
+    @Test
+    @DisplayName("임계값 이하는 원문, 초과는 gzip으로 저장하고 그대로 복원")
+    void roundTrip() {
+        String small = "짧은 글";
+        String large = "긴 글 내용 ".repeat(100);
+
+        byte[] storedSmall = converter.convertToDatabaseColumn(small);
+        byte[] storedLarge = converter.convertToDatabaseColumn(large);
+
+        assertThat(storedSmall[0]).isEqualTo((byte) 0);
+        assertThat(storedLarge[0]).isEqualTo((byte) 1);
+        assertThat(storedLarge.length).isLessThan(large.getBytes(StandardCharsets.UTF_8).length);
+        assertThat(converter.convertToEntityAttribute(storedSmall)).isEqualTo(small);
+        assertThat(converter.convertToEntityAttribute(storedLarge)).isEqualTo(large);
+        assertThat(converter.convertToEntityAttribute(converter.convertToDatabaseColumn(""))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("형식 표시가 없는 기존 VARCHAR 데이터는 원문으로 읽음")
+    void legacyPlainText() {
+        assertThat(converter.convertToEntityAttribute("기존 글".getBytes(StandardCharsets.UTF_8))).isEqualTo("기존 글");
+        assertThat(converter.convertToEntityAttribute("legacy".getBytes(StandardCharsets.UTF_8))).isEqualTo("legacy");
+        assertThat(converter.convertToEntityAttribute(new byte[0])).isEmpty();
+    }
+}
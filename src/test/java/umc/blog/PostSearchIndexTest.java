@@ -0,0 +1,88 @@
+package umc.blog;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import umc.blog.dto.PostSearchHitDto;
+import umc.blog.dto.PostSearchPageDto;
+import umc.blog.search.NGramAnalyzer;
+import umc.blog.search.PostSearchIndex;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class PostSearchIndexTest {
+
+    @Test
+    @DisplayName("라틴 문자는 단어 단위, 한글은 bigram으로 분리")
+    void analyze() {
+        NGramAnalyzer analyzer = new NGramAnalyzer();
+
+        assertThat(analyzer.analyze("Spring 블로그를, JPA!")).containsExactly("spring", "블로", "로그", "그를", "jpa");
+        assertThat(analyzer.analyze("글")).containsExactly("글");
+        assertThat(analyzer.analyze(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("제목에 등장한 글이 먼저, cursor로 이어서 조회하면 중복/누락 없음")
+    void searchPages() {
+        // given
+        PostSearchIndex index = new PostSearchIndex();
+        index.index(1L, "일기", "익명", "오늘은 스프링 공부");
+        index.index(2L, "스프링 정리", "익명", "트랜잭션");
+        for (long id = 3; id <= 7; id++)
+            index.index(id, "글 " + id, "익명", "스프링");
+
+        // when
+        List<Long> ids = new ArrayList<>();
+        PostSearchPageDto page = index.search("스프링", null, 2);
+        ids.addAll(page.getHits().stream().map(PostSearchHitDto::getId).toList());
+        while (page.getNextCursor() != null) {
+            page = index.search("스프링", page.getNextCursor(), 2);
+            ids.addAll(page.getHits().stream().map(PostSearchHitDto::getId).toList());
+        }
+
+        // then
+        assertThat(ids).hasSize(7).doesNotHaveDuplicates();
+        assertThat(ids.get(0)).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("색인이 바뀌면 다음 검색에 반영")
+    void searchAfterUpdate() {
+        // given
+        PostSearchIndex index = new PostSearchIndex();
+        index.index(1L, "스프링", "익명", "본문");
+        assertThat(index.search("스프링", null, 10).getHits()).hasSize(1);
+
+        // when
+        index.remove(1L);
+        index.index(2L, "스프링 부트", "익명", "본문");
+
+        // then
+        assertThat(index.search("스프링", null, 10).getHits()).extracting(PostSearchHitDto::getId).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("재구성 중 삭제/수정된 글은 스냅샷의 이전 상태로 되살아나지 않음")
+    void rebuildDoesNotResurrectRemovedPosts() {
+        // given
+        PostSearchIndex index = new PostSearchIndex();
+        index.beginRebuild();
+
+        // when
+        index.remove(1L);
+        index.index(2L, "수정된 제목", "익명", "본문");
+        index.indexSnapshot(1L, "삭제된 글", "익명", "본문");
+        index.indexSnapshot(2L, "예전 제목", "익명", "본문");
+        index.indexSnapshot(3L, "그대로인 글", "익명", "본문");
+        index.endRebuild();
+
+        // then
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.search("삭제", null, 10).getHits()).isEmpty();
+        assertThat(index.search("예전", null, 10).getHits()).isEmpty();
+        assertThat(index.search("수정", null, 10).getHits()).extracting(PostSearchHitDto::getId).containsExactly(2L);
+    }
+}
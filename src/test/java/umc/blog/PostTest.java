@@ -1,47 +1,120 @@
 package umc.blog;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.context.transaction.TestTransaction;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import umc.blog.cache.PostCache;
+import umc.blog.controller.PostController;
+import umc.blog.dto.PostBatchResultDto;
 import umc.blog.dto.PostDto;
 import umc.blog.dto.PostEditDto;
+import umc.blog.dto.PostPageDto;
 import umc.blog.entity.Post;
+import umc.blog.entity.PostEvent;
+import umc.blog.entity.PostEventType;
+import umc.blog.entity.User;
 import umc.blog.exception.InputValidateException;
+import umc.blog.exception.PermissionException;
 import umc.blog.exception.TargetNotFoundException;
+import umc.blog.jwt.UserPrincipal;
+import umc.blog.metrics.QueryCounter;
+import umc.blog.repository.PostContentRepository;
+import umc.blog.repository.PostEventRepository;
 import umc.blog.repository.PostRepository;
+import umc.blog.repository.UserRepository;
+import umc.blog.service.PostExportService;
+import umc.blog.service.PostImportService;
 import umc.blog.service.PostService;
+import umc.blog.service.PostViewCounter;
 
 import javax.sql.DataSource;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.hamcrest.Matchers.not;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static umc.blog.QueryCountAssertions.assertStatements;
 
 @SpringBootTest
+@AutoConfigureMockMvc
 @Transactional
 public class PostTest {
     private final DataSource dataSource;
     private final PostRepository postRepository;
+    private final UserRepository userRepository;
     private final PostService postService;
+    private final PostImportService postImportService;
+    private final PostContentRepository postContentRepository;
+    private final ObjectMapper objectMapper;
+    private final PlatformTransactionManager transactionManager;
+    private final PostEventRepository postEventRepository;
+    private final PostCache postCache;
+    private final PostViewCounter postViewCounter;
+    private final MockMvc mockMvc;
+
+    private User writer;
+    private UserPrincipal principal;
 
     @Autowired
-    public PostTest(DataSource dataSource, PostRepository postRepository, PostService postService) {
+    public PostTest(DataSource dataSource, PostRepository postRepository, UserRepository userRepository,
+                    PostService postService, PostImportService postImportService,
+                    PostContentRepository postContentRepository, ObjectMapper objectMapper,
+                    PlatformTransactionManager transactionManager, PostEventRepository postEventRepository,
+                    PostCache postCache, PostViewCounter postViewCounter, MockMvc mockMvc) {
         this.dataSource = dataSource;
         this.postRepository = postRepository;
+        this.userRepository = userRepository;
         this.postService = postService;
+        this.postImportService = postImportService;
+        this.postContentRepository = postContentRepository;
+        this.objectMapper = objectMapper;
+        this.transactionManager = transactionManager;
+        this.postEventRepository = postEventRepository;
+        this.postCache = postCache;
+        this.postViewCounter = postViewCounter;
+        this.mockMvc = mockMvc;
+    }
+
+    @BeforeEach
+    void setUp() {
+        writer = userRepository.save(new User("익명", "password"));
+        principal = new UserPrincipal(writer.getId(), writer.getUsername());
     }
 
     @Test
     @DisplayName("글 생성 및 저장 테스트")
     void save() {
         // given
-        Post newPost1 = Post.builder().writer("익명").title("첫 번째 글").content("첫 번째 글 내용").build();
-        Post newPost2 = Post.builder().writer("익명").title("두 번째 글").content("두 번째 글 내용").build();
-        Post newPost3 = Post.builder().writer("익명").title("세 번째 글").content("세 번째 글 내용").build();
+        Post newPost1 = Post.builder().writer(writer).title("첫 번째 글").content("첫 번째 글 내용").build();
+        Post newPost2 = Post.builder().writer(writer).title("두 번째 글").content("두 번째 글 내용").build();
+        Post newPost3 = Post.builder().writer(writer).title("세 번째 글").content("세 번째 글 내용").build();
 
         // when
         postRepository.save(newPost1);
@@ -65,14 +138,13 @@ public class PostTest {
         postDto.setContent("첫 번째 글 내용");
 
         // when
-        Post wrotePost = postService.write(postDto);
-        Post targetPost = postRepository.findById(wrotePost.getId()).orElseThrow(
-                () -> new TargetNotFoundException("target not found")
-        );
+        PostDto wrotePost = postService.write(postDto, principal);
+        List<Post> result = postRepository.findAll();
 
         // then
-        assertThat(wrotePost.getId()).isEqualTo(1);
-        assertThat(targetPost).isEqualTo(wrotePost);
+        assertThat(result.size()).isEqualTo(1);
+        assertThat(result.get(0).getTitle()).isEqualTo(wrotePost.getTitle());
+        assertThat(result.get(0).getWriter()).isEqualTo(writer);
     }
 
     @Test
@@ -85,10 +157,10 @@ public class PostTest {
 
         // when & then
         assertThrows(InputValidateException.class, () -> {
-            postService.write(postDto);
+            postService.write(postDto, principal);
         });
         assertThrows(NullPointerException.class, () -> {
-            postService.write(null);
+            postService.write(null, principal);
         });
     }
 
@@ -96,7 +168,7 @@ public class PostTest {
     @DisplayName("글 수정 테스트")
     void edit() {
         // given
-        Post newPost1 = Post.builder().writer("익명").title("첫 번째 글").content("첫 번째 글 내용").build();
+        Post newPost1 = Post.builder().writer(writer).title("첫 번째 글").content("첫 번째 글 내용").build();
 
         // when
         postRepository.save(newPost1);
@@ -117,14 +189,17 @@ public class PostTest {
         postDto.setContent("첫 번째 글 내용");
 
         // when
-        Post targetPost = postService.write(postDto);
+        postService.write(postDto, principal);
+        Post targetPost = postRepository.findAll().get(0);
         PostEditDto editDto = new PostEditDto();
         editDto.setTitle("첫 번째 글 (수정)");
         editDto.setContent("첫 번째 글 내용");
-        postService.edit(targetPost.getId(), editDto);
+        postService.edit(targetPost.getId(), editDto, principal);
+        Post editedPost = postRepository.findById(targetPost.getId()).orElseThrow(
+                () -> new TargetNotFoundException("target not found"));
 
         // then
-        assertThat(targetPost.getTitle()).isEqualTo("첫 번째 글 (수정)");
+        assertThat(editedPost.getTitle()).isEqualTo("첫 번째 글 (수정)");
     }
 
     @Test
@@ -136,7 +211,8 @@ public class PostTest {
         postDto.setContent("첫 번째 글 내용");
 
         // when
-        Post targetPost = postService.write(postDto);
+        postService.write(postDto, principal);
+        Post targetPost = postRepository.findAll().get(0);
         PostEditDto editDto = new PostEditDto();
         editDto.setTitle(null);
         editDto.setContent("첫 번째 글 내용");
@@ -147,29 +223,57 @@ public class PostTest {
 
         // then
         assertThrows(InputValidateException.class, () -> {
-            postService.edit(targetPost.getId(), editDto);
+            postService.edit(targetPost.getId(), editDto, principal);
         });
         assertThrows(InputValidateException.class, () -> {
-            postService.edit(10000L, editDto);
+            postService.edit(10000L, editDto, principal);
         });
         assertThrows(TargetNotFoundException.class, () -> {
-            postService.edit(10000L, successEditDto);
+            postService.edit(10000L, successEditDto, principal);
         });
         assertThrows(InvalidDataAccessApiUsageException.class, () -> {
-            postService.edit(null, successEditDto);
+            postService.edit(null, successEditDto, principal);
         });
         assertThrows(NullPointerException.class, () -> {
-            postService.edit(targetPost.getId(), null);
+            postService.edit(targetPost.getId(), null, principal);
         });
     }
 
+    @Test
+    @DisplayName("글 수정 테스트 - 작성자가 아니면 권한 오류, 버전이 다르면 충돌")
+    void editPermissionAndConflict() {
+        // given
+        Post post = savePosts(1).get(0);
+        User other = userRepository.save(new User("다른 사용자", "password"));
+        UserPrincipal otherPrincipal = new UserPrincipal(other.getId(), other.getUsername());
+        PostEditDto editDto = new PostEditDto();
+        editDto.setTitle("첫 번째 글 (수정)");
+        editDto.setContent("첫 번째 글 내용 (수정)");
+        editDto.setVersion(post.getVersion());
+
+        // when
+        assertThrows(PermissionException.class, () -> {
+            postService.edit(post.getId(), editDto, otherPrincipal);
+        });
+        postService.edit(post.getId(), editDto, principal);
+
+        // then
+        // 같은 버전으로 다시 수정하면 이미 바뀐 뒤이므로 충돌 (조건부 UPDATE + 작성자 조회 두 번만)
+        assertStatements(2, () -> {
+            assertThrows(ObjectOptimisticLockingFailureException.class, () -> {
+                postService.edit(post.getId(), editDto, principal);
+            });
+        });
+        assertThat(postRepository.findById(post.getId()).orElseThrow().getVersion()).isEqualTo(post.getVersion() + 1);
+    }
+
     @Test
     @DisplayName("글 삭제 테스트")
     void delete() {
         // given
-        Post newPost1 = Post.builder().writer("익명").title("첫 번째 글").content("첫 번째 글 내용").build();
-        Post newPost2 = Post.builder().writer("익명").title("두 번째 글").content("두 번째 글 내용").build();
-        Post newPost3 = Post.builder().writer("익명").title("세 번째 글").content("세 번째 글 내용").build();
+        Post newPost1 = Post.builder().writer(writer).title("첫 번째 글").content("첫 번째 글 내용").build();
+        Post newPost2 = Post.builder().writer(writer).title("두 번째 글").content("두 번째 글 내용").build();
+        Post newPost3 = Post.builder().writer(writer).title("세 번째 글").content("세 번째 글 내용").build();
 
         // when
         postRepository.save(newPost1);
@@ -194,10 +298,11 @@ public class PostTest {
         newPostDto.setTitle("첫 번째 글");
         newPostDto.setContent("첫 번째 글 내용");
 
-        Post targetPost = postService.write(newPostDto);
+        postService.write(newPostDto, principal);
+        Post targetPost = postRepository.findAll().get(0);
 
         // when
-        postService.delete(targetPost.getId());
+        postService.delete(targetPost.getId(), principal);
 
         // then
         assertThrows(TargetNotFoundException.class, () -> {
@@ -213,14 +318,341 @@ public class PostTest {
         newPostDto.setTitle("첫 번째 글");
         newPostDto.setContent("첫 번째 글 내용");
 
-        postService.write(newPostDto);
+        postService.write(newPostDto, principal);
 
         // when
         assertThrows(TargetNotFoundException.class, () -> {
-            postService.delete(10000L);
+            postService.delete(10000L, principal);
         });
         assertThrows(InvalidDataAccessApiUsageException.class, () -> {
-            postService.delete(null);
+            postService.delete(null, principal);
+        });
+    }
+
+    @Test
+    @DisplayName("SQL 수 테스트 - 목록 조회는 작성자를 포함해 한 번의 쿼리")
+    void findPageStatementCount() {
+        // given
+        savePosts(3);
+
+        // when
+        PostPageDto page = assertStatements(1, () -> postService.findPage(null, 2, null));
+
+        // then
+        assertThat(page.getPosts().size()).isEqualTo(2);
+        assertThat(page.getPosts().get(0).getWriter()).isEqualTo(writer.getUsername());
+        assertThat(page.getNextCursor()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("SQL 수 테스트 - 단건 조회는 한 번, 캐시된 후에는 쿼리 없음")
+    void findOneStatementCount() {
+        // given
+        Long id = savePosts(1).get(0).getId();
+
+        // when
+        PostDto post = assertStatements(1, () -> postService.findOne(id));
+        PostDto cachedPost = assertStatements(0, () -> postService.findOne(id));
+
+        // then
+        assertThat(post.getWriter()).isEqualTo(writer.getUsername());
+        assertThat(cachedPost.getTitle()).isEqualTo(post.getTitle());
+    }
+
+    @Test
+    @DisplayName("조건부 조회 - ETag가 같으면 본문 없이 304, 수정 후에는 새 ETag로 200")
+    void conditionalGet() throws Exception {
+        // given
+        Post post = savePosts(1).get(0);
+        String eTag = mockMvc.perform(get("/post/{id}", post.getId()).with(login()))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // when & then
+        mockMvc.perform(get("/post/{id}", post.getId()).with(login()).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag));
+
+        PostEditDto editDto = new PostEditDto();
+        editDto.setTitle("1번째 글 (수정)");
+        editDto.setContent("1번째 글 내용 (수정)");
+        postService.edit(post.getId(), editDto, principal);
+        postCache.evict(post.getId());
+        mockMvc.perform(get("/post/{id}", post.getId()).with(login()).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(eTag)));
+    }
+
+    @Test
+    @DisplayName("조건부 조회 - 조회수는 본문이 아니라 헤더로 응답해 304에도 반영 후 조회수가 보임")
+    void viewCountOnNotModified() throws Exception {
+        // given (조회수 반영은 별도 트랜잭션에서 실행되므로 글을 먼저 커밋)
+        Long id = savePosts(1).get(0).getId();
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+
+        try {
+            String eTag = mockMvc.perform(get("/post/{id}", id).with(login()))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(PostController.VIEW_COUNT_HEADER, "1"))
+                    .andExpect(jsonPath("$.viewCount").doesNotExist())
+                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+            // when (캐시된 글의 조회수는 0인 채로 DB에만 반영)
+            postViewCounter.flush();
+
+            // then
+            mockMvc.perform(get("/post/{id}", id).with(login()).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                    .andExpect(header().string(PostController.VIEW_COUNT_HEADER, "2"));
+        } finally {
+            // 커밋한 데이터 정리
+            postViewCounter.flush();
+            TestTransaction.start();
+            postEventRepository.deleteAll(postEventRepository.findAll().stream()
+                    .filter(event -> id.equals(event.getPostId())).toList());
+            postRepository.deleteById(id);
+            userRepository.deleteById(writer.getId());
+            TestTransaction.flagForCommit();
+            TestTransaction.end();
+            postCache.evict(id);
+            TestTransaction.start();
+        }
+    }
+
+    @Test
+    @DisplayName("조건부 수정 - If-Match가 이전 ETag면 409, 현재 ETag면 수정")
+    void editWithStaleIfMatch() throws Exception {
+        // given
+        Post post = savePosts(1).get(0);
+        String staleETag = mockMvc.perform(get("/post/{id}", post.getId()).with(login()))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        PostEditDto editDto = new PostEditDto();
+        editDto.setTitle("1번째 글 (수정)");
+        editDto.setContent("1번째 글 내용 (수정)");
+        postService.edit(post.getId(), editDto, principal);
+        postCache.evict(post.getId());
+        String body = "{\"title\":\"다시 수정\",\"content\":\"다시 수정한 내용\"}";
+
+        // when & then
+        mockMvc.perform(put("/post/{id}", post.getId()).with(login())
+                        .contentType(MediaType.APPLICATION_JSON).content(body)
+                        .header(HttpHeaders.IF_MATCH, staleETag))
+                .andExpect(status().isConflict());
+        String currentETag = mockMvc.perform(get("/post/{id}", post.getId()).with(login()))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(put("/post/{id}", post.getId()).with(login())
+                        .contentType(MediaType.APPLICATION_JSON).content(body)
+                        .header(HttpHeaders.IF_MATCH, currentETag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("캐시 - 수정이 커밋되면 제거, 커밋 전이나 롤백되면 유지")
+    void cacheEvictedOnlyAfterCommit() {
+        // given (커밋 시점을 확인해야 하므로 테스트 트랜잭션을 직접 커밋)
+        Long id = savePosts(1).get(0).getId();
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+        PostEditDto editDto = new PostEditDto();
+        editDto.setTitle("1번째 글 (수정)");
+        editDto.setContent("1번째 글 내용 (수정)");
+
+        try {
+            // when & then
+            TestTransaction.start();
+            postService.findOne(id);
+            postService.edit(id, editDto, principal);
+            assertThat(postCache.getIfPresent(id)).isNotNull();
+            TestTransaction.flagForRollback();
+            TestTransaction.end();
+            assertThat(postCache.getIfPresent(id)).isNotNull();
+
+            TestTransaction.start();
+            postService.edit(id, editDto, principal);
+            TestTransaction.flagForCommit();
+            TestTransaction.end();
+            assertThat(postCache.getIfPresent(id)).isNull();
+        } finally {
+            // 커밋한 데이터 정리
+            if (TestTransaction.isActive())
+                TestTransaction.end();
+            TestTransaction.start();
+            postEventRepository.deleteAll(postEventRepository.findAll().stream()
+                    .filter(event -> id.equals(event.getPostId())).toList());
+            postRepository.deleteById(id);
+            userRepository.deleteById(writer.getId());
+            TestTransaction.flagForCommit();
+            TestTransaction.end();
+            postCache.evict(id);
+            TestTransaction.start();
+        }
+    }
+
+    @Test
+    @DisplayName("SQL 수 테스트 - 일괄 생성은 글마다가 아니라 배치(50개)마다 INSERT 한 번")
+    void writeAllStatementCount() {
+        // given
+        int count = 120;
+        List<PostDto> postDtos = new ArrayList<>();
+        for (int i = 1; i <= count; i++)
+            postDtos.add(new PostDto(i + "번째 글", null, i + "번째 글 내용"));
+
+        // when (INSERT는 커밋 시점에 실행되므로 flush로 포함)
+        QueryCounter.start(true);
+        QueryCounter.Snapshot queries;
+        try {
+            postService.writeAll(postDtos, principal);
+            postRepository.flush();
+        } finally {
+            queries = QueryCounter.stop();
+        }
+
+        // then (글과 이벤트 테이블 각각 ceil(120 / 50) = 3번 이하)
+        int inserts = queries.shapes().entrySet().stream()
+                .filter(shape -> shape.getKey().toLowerCase().startsWith("insert"))
+                .mapToInt(Map.Entry::getValue)
+                .sum();
+        assertThat(inserts).as("실행된 SQL: %s", queries.shapes()).isBetween(2, 2 * 3);
+        assertThat(postRepository.count()).isEqualTo(count);
+    }
+
+    @Test
+    @DisplayName("SQL 수 테스트 - 수정과 삭제는 조건부 UPDATE/DELETE 한 번과 이벤트 INSERT 한 번")
+    void editAndDeleteStatementCount() {
+        // given
+        List<Post> posts = savePosts(2);
+        PostEditDto editDto = new PostEditDto();
+        editDto.setTitle("첫 번째 글 (수정)");
+        editDto.setContent("첫 번째 글 내용 (수정)");
+
+        // when & then (이벤트 INSERT는 커밋 시점에 실행되므로 flush로 포함)
+        assertStatements(2, () -> {
+            postService.edit(posts.get(0).getId(), editDto, principal);
+            postRepository.flush();
+        });
+        assertStatements(2, () -> {
+            postService.delete(posts.get(1).getId(), principal);
+            postRepository.flush();
         });
     }
+
+    @Test
+    @DisplayName("SQL 수 테스트 - 일괄 삭제는 작성자 확인, DELETE, 이벤트 배치 INSERT 각 한 번")
+    void deleteAllStatementCount() {
+        // given
+        List<Long> ids = savePosts(3).stream().map(Post::getId).toList();
+
+        // when
+        List<PostBatchResultDto> results = assertStatements(3, () -> {
+            List<PostBatchResultDto> deleted = postService.deleteAll(ids, principal);
+            postRepository.flush();
+            return deleted;
+        });
+
+        // then
+        assertThat(results).allMatch(PostBatchResultDto::isSuccess);
+    }
+
+    @Test
+    @DisplayName("긴 본문은 단건 조회에서 생략되고 본문 스트리밍으로 전체 조회")
+    void longContent() {
+        // given
+        String content = "가".repeat(70_000);
+        Post post = postRepository.save(Post.builder().writer(writer).title("긴 글").content(content).build());
+        postRepository.flush();
+
+        // when
+        PostDto found = postService.findOne(post.getId());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        postService.copyContent(post.getId(), out);
+
+        // then
+        assertThat(found.getContent()).isNull();
+        assertThat(found.getContentLength()).isEqualTo(70_000);
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(content);
+    }
+
+    @Test
+    @DisplayName("글 가져오기 테스트 - 잘못된 줄은 건너뛰고 나머지는 저장")
+    void importPosts() {
+        // given
+        String body = "{\"title\":\"첫 번째 글\",\"content\":\"첫 번째 글 내용\"}\n" +
+                "{\"title\":\"내용 없는 글\"}\n" +
+                "{\"title\":{},\"content\":\"형식이 틀린 글\"}\n" +
+                "{\"title\":\"두 번째 글\",\"content\":\"두 번째 글 내용\"}\n";
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        postImportService.importPosts(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), out, principal);
+
+        // then
+        List<String> lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(lines).containsExactly(
+                "{\"line\":2,\"error\":\"validation error\"}",
+                "{\"line\":3,\"error\":\"validation error\"}",
+                "{\"line\":4,\"imported\":2,\"failed\":2,\"done\":true}");
+        List<Post> imported = postRepository.findAll();
+        assertThat(imported).extracting(Post::getTitle).containsExactlyInAnyOrder("첫 번째 글", "두 번째 글");
+        // 글마다가 아니라 청크마다 색인 이벤트 하나
+        List<PostEvent> events = postEventRepository.findAll();
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).getType()).isEqualTo(PostEventType.IMPORTED);
+        assertThat(imported).allSatisfy(post -> assertThat(post.getId())
+                .isBetween(events.get(0).getPostId(), events.get(0).getLastPostId()));
+    }
+
+    @Test
+    @DisplayName("글 내보내기 - 청크 단위로 모든 글을 id 순으로 한 줄씩, after 이후부터 재개")
+    void exportPosts() throws Exception {
+        // given
+        List<Post> posts = savePosts(5);
+        // 청크 경계를 확인하도록 청크 2개씩, 메모리 버퍼 16바이트(넘으면 임시 파일)
+        PostExportService postExportService = new PostExportService(postContentRepository, objectMapper,
+                transactionManager, 2, 2, 16);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ByteArrayOutputStream resumed = new ByteArrayOutputStream();
+
+        // when
+        postExportService.export(null, out);
+        postExportService.export(posts.get(2).getId(), resumed);
+
+        // then
+        List<String> lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(lines).hasSize(5);
+        assertThat(lines).extracting(line -> objectMapper.readTree(line).get("id").asLong())
+                .containsExactlyElementsOf(posts.stream().map(Post::getId).toList());
+        assertThat(objectMapper.readTree(lines.get(0)).get("content").asText()).isEqualTo("1번째 글 내용");
+        assertThat(objectMapper.readTree(lines.get(0)).get("writer").asText()).isEqualTo("익명");
+        assertThat(resumed.toString(StandardCharsets.UTF_8).lines().toList()).containsExactlyElementsOf(lines.subList(3, 5));
+    }
+
+    @Test
+    @DisplayName("내보내기 압축 - Accept-Encoding의 q 값을 따르고 부분 문자열은 무시")
+    void acceptsGzip() {
+        assertThat(PostController.acceptsGzip("gzip, deflate, br")).isTrue();
+        assertThat(PostController.acceptsGzip("br;q=1.0, GZIP;q=0.5")).isTrue();
+        assertThat(PostController.acceptsGzip("*")).isTrue();
+        assertThat(PostController.acceptsGzip(null)).isFalse();
+        assertThat(PostController.acceptsGzip("gzip;q=0")).isFalse();
+        assertThat(PostController.acceptsGzip("gzip;q=0, *")).isFalse();
+        assertThat(PostController.acceptsGzip("*;q=0")).isFalse();
+        assertThat(PostController.acceptsGzip("notgzip, gzipped")).isFalse();
+    }
+
+    private RequestPostProcessor login() {
+        return authentication(new UsernamePasswordAuthenticationToken(principal, null,
+                AuthorityUtils.createAuthorityList("ROLE_USER")));
+    }
+
+    // 측정 대상에 INSERT가 섞이지 않도록 미리 flush
+    private List<Post> savePosts(int count) {
+        List<Post> posts = new ArrayList<>();
+        for (int i = 1; i <= count; i++)
+            posts.add(postRepository.save(Post.builder().writer(writer).title(i + "번째 글").content(i + "번째 글 내용").build()));
+        postRepository.flush();
+        return posts;
+    }
 }
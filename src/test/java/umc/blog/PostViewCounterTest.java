@@ -0,0 +1,111 @@
+package umc.blog;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import umc.blog.service.PostViewCounter;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+// post 테이블의 조회수 컬럼만 둔 H2로 배치 반영 확인
+public class PostViewCounterTest {
+    private JdbcTemplate jdbcTemplate;
+    private PostViewCounter postViewCounter;
+    // 커밋 직전(DB에는 반영, 표시용 저장 조회수는 갱신 전)에 본 표시 조회수
+    private final AtomicLong viewCountBeforeCommit = new AtomicLong(-1);
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource();
+        dataSource.setDriverClassName("org.h2.Driver");
+        dataSource.setUrl("jdbc:h2:mem:view_counter;DB_CLOSE_DELAY=-1");
+        dataSource.setUsername("sa");
+        dataSource.setPassword("");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("drop table if exists post");
+        // 조회수가 100을 넘으면 UPDATE가 실패하도록 해 배치 중간 실패를 재현
+        jdbcTemplate.execute("create table post (post_id bigint primary key, view_count bigint not null check (view_count <= 100))");
+        jdbcTemplate.update("insert into post (post_id, view_count) values (1, 0), (2, 0)");
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource) {
+            @Override
+            protected void doCommit(DefaultTransactionStatus status) {
+                viewCountBeforeCommit.set(postViewCounter.viewCount(1L, 0L));
+                super.doCommit(status);
+            }
+        };
+        postViewCounter = new PostViewCounter(jdbcTemplate, transactionManager, 1000);
+    }
+
+    @Test
+    @DisplayName("모은 조회수를 한 번에 반영하고 캐시된 값 대신 반영된 저장 조회수를 표시")
+    void flush() {
+        // given
+        for (int i = 0; i < 3; i++)
+            postViewCounter.increment(1L);
+        assertThat(postViewCounter.viewCount(1L, 0L)).isEqualTo(3);
+
+        // when
+        postViewCounter.flush();
+
+        // then
+        assertThat(viewCountInDb(1L)).isEqualTo(3);
+        assertThat(postViewCounter.pending(1L)).isZero();
+        // 캐시에 남은 예전 조회수(0)가 아니라 반영 후 다시 읽은 값
+        assertThat(postViewCounter.viewCount(1L, 0L)).isEqualTo(3);
+        postViewCounter.increment(1L);
+        assertThat(postViewCounter.viewCount(1L, 0L)).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("배치 일부가 실패하면 전체를 되돌리고 다음 주기에 중복 없이 다시 반영")
+    void failedBatchIsNotCountedTwice() {
+        // given
+        jdbcTemplate.update("update post set view_count = 100 where post_id = 2");
+        postViewCounter.increment(1L);
+        postViewCounter.increment(2L);
+
+        // when
+        postViewCounter.flush();
+
+        // then
+        assertThat(viewCountInDb(1L)).isZero();
+        assertThat(postViewCounter.pending(1L)).isEqualTo(1);
+
+        jdbcTemplate.update("update post set view_count = 0 where post_id = 2");
+        postViewCounter.flush();
+        assertThat(viewCountInDb(1L)).isEqualTo(1);
+        assertThat(viewCountInDb(2L)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("반영 중인 조회수도 표시하고, 조회가 없어 정리된 글도 다시 집계")
+    void inFlightAndRemovedEntries() {
+        // given
+        postViewCounter.increment(1L);
+        postViewCounter.increment(1L);
+
+        // when
+        postViewCounter.flush();
+
+        // then
+        assertThat(viewCountBeforeCommit.get()).isEqualTo(2);
+        assertThat(postViewCounter.viewCount(1L, 0L)).isEqualTo(2);
+
+        // 조회가 없던 주기에 정리된 뒤 들어온 조회도 유실되지 않음
+        postViewCounter.flush();
+        postViewCounter.increment(1L);
+        assertThat(postViewCounter.pending(1L)).isEqualTo(1);
+        postViewCounter.flush();
+        assertThat(viewCountInDb(1L)).isEqualTo(3);
+    }
+
+    private long viewCountInDb(Long id) {
+        return jdbcTemplate.queryForObject("select view_count from post where post_id = ?", Long.class, id);
+    }
+}
@@ -0,0 +1,42 @@
+package umc.blog;
+
+import umc.blog.metrics.QueryCounter;
+
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// 블록 안에서 Hibernate가 실행한 SQL 수를 검증 (실패 시 실행된 SQL 형태를 함께 출력)
+// pooled 시퀀스 조회는 할당 단위마다 한 번만 발생해 실행 순서에 따라 달라지므로 세지 않음
+public final class QueryCountAssertions {
+    private static final Pattern SEQUENCE_CALL = Pattern.compile("(?i)(next value for|nextval\\()");
+
+    private QueryCountAssertions() {
+    }
+
+    public static <T> T assertStatements(int expected, Supplier<T> action) {
+        QueryCounter.start(true);
+        T result;
+        QueryCounter.Snapshot queries;
+        try {
+            result = action.get();
+        } finally {
+            queries = QueryCounter.stop();
+        }
+        int sequenceCalls = queries.shapes().entrySet().stream()
+                .filter(shape -> SEQUENCE_CALL.matcher(shape.getKey()).find())
+                .mapToInt(Map.Entry::getValue)
+                .sum();
+        assertEquals(expected, queries.statements() - sequenceCalls, () -> "실행된 SQL: " + queries.shapes());
+        return result;
+    }
+
+    public static void assertStatements(int expected, Runnable action) {
+        assertStatements(expected, () -> {
+            action.run();
+            return null;
+        });
+    }
+}
@@ -0,0 +1,92 @@
+package umc.blog;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import umc.blog.jwt.UserPrincipal;
+import umc.blog.ratelimit.RateLimitFilter;
+import umc.blog.ratelimit.RateLimitProperties;
+import umc.blog.ratelimit.TokenBucket;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class RateLimitTest {
+    private static final long SECOND = 1_000_000_000L;
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("토큰 버킷 - capacity만큼 연속 허용 후 거부, 시간이 지나면 보충")
+    void tokenBucket() {
+        TokenBucket bucket = new TokenBucket(3, 1.0, 0);
+
+        assertThat(bucket.remaining(0)).isEqualTo(3);
+        for (int i = 0; i < 3; i++)
+            assertThat(bucket.tryAcquire(0)).isZero();
+        assertThat(bucket.remaining(0)).isZero();
+        // 다음 토큰은 1초 뒤
+        assertThat(bucket.tryAcquire(0)).isEqualTo(SECOND);
+
+        assertThat(bucket.tryAcquire(SECOND)).isZero();
+        assertThat(bucket.tryAcquire(SECOND)).isPositive();
+        // 충분히 쉬어도 capacity를 넘어 쌓이지 않음
+        assertThat(bucket.remaining(100 * SECOND)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("인코딩/경로 파라미터로 바꾼 경로도 같은 규칙으로 제한")
+    void encodedPathsShareTheRule() throws Exception {
+        RateLimitFilter filter = filter(new RateLimitProperties.Rule("POST", "/login", 2, 1));
+
+        assertThat(call(filter, "POST", "/login").getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(call(filter, "POST", "/logi%6E").getStatus()).isEqualTo(HttpStatus.OK.value());
+        MockHttpServletResponse rejected = call(filter, "POST", "/login;x=1");
+
+        assertThat(rejected.getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+        assertThat(rejected.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("60");
+        assertThat(rejected.getHeader(RateLimitFilter.REMAINING_HEADER)).isEqualTo("0");
+        // 다른 메서드나 규칙이 없는 경로는 제한하지 않음
+        assertThat(call(filter, "GET", "/login").getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(call(filter, "POST", "/signup").getHeader(RateLimitFilter.LIMIT_HEADER)).isNull();
+    }
+
+    @Test
+    @DisplayName("로그인 유저는 유저별로, 그 외에는 IP별로 버킷을 나눔")
+    void keysByUserOrIp() throws Exception {
+        RateLimitFilter filter = filter(new RateLimitProperties.Rule("POST", "/post", 1, 1));
+
+        assertThat(call(filter, "POST", "/post").getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(call(filter, "POST", "/post").getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                new UserPrincipal(1L, "user1"), null, AuthorityUtils.createAuthorityList("ROLE_USER")));
+        assertThat(call(filter, "POST", "/post").getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(filter.trackedKeys()).isEqualTo(2);
+    }
+
+    private static RateLimitFilter filter(RateLimitProperties.Rule rule) {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setRules(List.of(rule));
+        return new RateLimitFilter(properties);
+    }
+
+    private static MockHttpServletResponse call(RateLimitFilter filter, String method, String uri) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
@@ -0,0 +1,173 @@
+package umc.blog;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+import umc.blog.config.ReadYourWritesRegistry;
+import umc.blog.config.ReplicaRoutingDataSource;
+import umc.blog.jwt.UserPrincipal;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.*;
+
+// primary/replica 역할의 H2 인스턴스 두 개로 라우팅 규칙 확인
+public class ReplicaRoutingTest {
+    private final AtomicBoolean replicaAvailable = new AtomicBoolean(true);
+    private ReadYourWritesRegistry readYourWritesRegistry;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+    private JdbcTemplate jdbcTemplate;
+    private DataSource routing;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = h2("routing_primary");
+        DataSource replica = h2("routing_replica");
+        readYourWritesRegistry = new ReadYourWritesRegistry(Duration.ofMinutes(1), 1000);
+        routing = new LazyConnectionDataSourceProxy(
+                new ReplicaRoutingDataSource(primary, replica, readYourWritesRegistry, replicaAvailable::get));
+
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routing);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        jdbcTemplate = new JdbcTemplate(routing);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션만 replica로 라우팅")
+    void routesReadOnlyToReplica() {
+        assertThat(readOnly.execute(status -> node())).isEqualTo("replica");
+        assertThat(readWrite.execute(status -> node())).isEqualTo("primary");
+        assertThat(node()).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("쓰기를 커밋한 유저의 읽기는 일정 기간 primary로 라우팅")
+    void readYourWrites() {
+        login(1L);
+        assertThat(readOnly.execute(status -> node())).isEqualTo("replica");
+
+        readWrite.executeWithoutResult(status -> node());
+        assertThat(readYourWritesRegistry.isRecentWriter(1L)).isTrue();
+        assertThat(readOnly.execute(status -> node())).isEqualTo("primary");
+
+        login(2L);
+        assertThat(readOnly.execute(status -> node())).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("롤백된 쓰기는 기록하지 않음")
+    void rollbackDoesNotMarkWriter() {
+        login(1L);
+        readWrite.executeWithoutResult(status -> {
+            node();
+            status.setRollbackOnly();
+        });
+
+        assertThat(readYourWritesRegistry.isRecentWriter(1L)).isFalse();
+        assertThat(readOnly.execute(status -> node())).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("replica가 지연되거나 접속할 수 없으면 primary에서 읽음")
+    void fallsBackWhenReplicaUnavailable() {
+        replicaAvailable.set(false);
+        assertThat(readOnly.execute(status -> node())).isEqualTo("primary");
+
+        replicaAvailable.set(true);
+        assertThat(readOnly.execute(status -> node())).isEqualTo("replica");
+        assertThat(ReplicaRoutingDataSource.usePrimary(() -> readOnly.execute(status -> node()))).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖의 조회는 primary에서 읽지만 쓰기로 기록하지 않음")
+    void nonTransactionalReadDoesNotMarkWriter() {
+        login(1L);
+        assertThat(node()).isEqualTo("primary");
+
+        assertThat(readYourWritesRegistry.isRecentWriter(1L)).isFalse();
+        assertThat(readOnly.execute(status -> node())).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("JpaTransactionManager(HibernateJpaDialect)에서도 읽기 전용 트랜잭션만 replica로 라우팅")
+    void routesJpaTransactions() {
+        // given
+        LocalContainerEntityManagerFactoryBean factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(routing);
+        factoryBean.setPackagesToScan("umc.blog.entity");
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.setJpaPropertyMap(Map.of("hibernate.hbm2ddl.auto", "none"));
+        factoryBean.afterPropertiesSet();
+        EntityManagerFactory entityManagerFactory = factoryBean.getObject();
+        EntityManager entityManager = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory);
+        JpaTransactionManager transactionManager = new JpaTransactionManager(entityManagerFactory);
+        TransactionTemplate jpaReadWrite = new TransactionTemplate(transactionManager);
+        TransactionTemplate jpaReadOnly = new TransactionTemplate(transactionManager);
+        jpaReadOnly.setReadOnly(true);
+        login(1L);
+
+        try {
+            // when, then
+            assertThat(jpaReadOnly.execute(status -> node(entityManager))).isEqualTo("replica");
+            assertThat(readYourWritesRegistry.isRecentWriter(1L)).isFalse();
+
+            assertThat(jpaReadWrite.execute(status -> node(entityManager))).isEqualTo("primary");
+            assertThat(readYourWritesRegistry.isRecentWriter(1L)).isTrue();
+            assertThat(jpaReadOnly.execute(status -> node(entityManager))).isEqualTo("primary");
+        } finally {
+            factoryBean.destroy();
+        }
+    }
+
+    private static String node(EntityManager entityManager) {
+        return (String) entityManager.createNativeQuery("select name from node").getSingleResult();
+    }
+
+    private String node() {
+        return jdbcTemplate.queryForObject("select name from node", String.class);
+    }
+
+    private static void login(Long userId) {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                new UserPrincipal(userId, "user" + userId), null, AuthorityUtils.createAuthorityList("ROLE_USER")));
+    }
+
+    private static DataSource h2(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource();
+        dataSource.setDriverClassName("org.h2.Driver");
+        dataSource.setUrl("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+        dataSource.setUsername("sa");
+        dataSource.setPassword("");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("create table if not exists node (name varchar(16))");
+        jdbcTemplate.execute("delete from node");
+        jdbcTemplate.update("insert into node (name) values (?)", name.substring(name.indexOf('_') + 1));
+        return dataSource;
+    }
+}
@@ -0,0 +1,50 @@
+package umc.blog;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import umc.blog.jwt.TokenDenylist;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class TokenDenylistTest {
+
+    @Test
+    @DisplayName("폐기한 토큰만 폐기된 것으로 판단")
+    void revoke() {
+        TokenDenylist denylist = new TokenDenylist(100, 0.01);
+
+        denylist.revoke("revoked", Long.MAX_VALUE);
+
+        assertThat(denylist.isRevoked("revoked")).isTrue();
+        assertThat(denylist.isRevoked("active")).isFalse();
+        assertThat(denylist.isRevoked(null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("예상 개수를 넘으면 용량을 두 배씩 늘리고 누락 없이 판단")
+    void growsGeometrically() {
+        TokenDenylist denylist = new TokenDenylist(100, 0.01);
+
+        for (int i = 0; i < 1000; i++)
+            denylist.revoke("token-" + i, Long.MAX_VALUE);
+
+        // 100 -> 200 -> 400 -> 800 -> 1600, 재구성은 항목 수에 대해 로그 횟수
+        assertThat(denylist.capacity()).isEqualTo(1600);
+        for (int i = 0; i < 1000; i++)
+            assertThat(denylist.isRevoked("token-" + i)).isTrue();
+    }
+
+    @Test
+    @DisplayName("만료된 항목은 정리 후 폐기 목록에서 빠짐")
+    void sweep() {
+        TokenDenylist denylist = new TokenDenylist(100, 0.01);
+        denylist.revoke("expired", 1_000L);
+        denylist.revoke("alive", 3_000L);
+
+        denylist.sweep(2_000L);
+
+        assertThat(denylist.isRevoked("expired")).isFalse();
+        assertThat(denylist.isRevoked("alive")).isTrue();
+        assertThat(denylist.size()).isEqualTo(1);
+    }
+}
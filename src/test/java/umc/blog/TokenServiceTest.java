@@ -0,0 +1,87 @@
+package umc.blog;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.transaction.annotation.Transactional;
+import umc.blog.dto.TokenDto;
+import umc.blog.entity.User;
+import umc.blog.exception.InvalidTokenException;
+import umc.blog.repository.RevokedTokenRepository;
+import umc.blog.repository.UserRepository;
+import umc.blog.service.TokenService;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Transactional
+public class TokenServiceTest {
+    private final TokenService tokenService;
+    private final UserRepository userRepository;
+    private final RevokedTokenRepository revokedTokenRepository;
+
+    private User user;
+    private Authentication authentication;
+
+    @Autowired
+    public TokenServiceTest(TokenService tokenService, UserRepository userRepository,
+                            RevokedTokenRepository revokedTokenRepository) {
+        this.tokenService = tokenService;
+        this.userRepository = userRepository;
+        this.revokedTokenRepository = revokedTokenRepository;
+    }
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(new User("토큰", "password"));
+        authentication = new UsernamePasswordAuthenticationToken(user.getUsername(), null,
+                AuthorityUtils.createAuthorityList("ROLE_USER"));
+    }
+
+    @Test
+    @DisplayName("refresh token 회전 - 새 토큰 쌍을 발급하고 사용한 토큰은 다시 쓸 수 없음")
+    void rotate() {
+        // given
+        TokenDto issued = tokenService.issue(authentication, user.getId());
+
+        // when
+        TokenDto rotated = tokenService.refresh(issued.getRefreshToken());
+
+        // then
+        assertThat(rotated.getRefreshToken()).isNotEqualTo(issued.getRefreshToken());
+        assertThat(rotated.getToken()).isNotEqualTo(issued.getToken());
+        // 회전 전 access token은 폐기 목록에 기록
+        assertThat(revokedTokenRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("이미 사용한 refresh token이 다시 들어오면 탈취로 보고 모든 세션 폐기")
+    void reuseRevokesAllSessions() {
+        // given
+        TokenDto issued = tokenService.issue(authentication, user.getId());
+        TokenDto rotated = tokenService.refresh(issued.getRefreshToken());
+        TokenDto otherSession = tokenService.issue(authentication, user.getId());
+
+        // when
+        assertThrows(InvalidTokenException.class, () -> tokenService.refresh(issued.getRefreshToken()));
+
+        // then
+        assertThrows(InvalidTokenException.class, () -> tokenService.refresh(rotated.getRefreshToken()));
+        assertThrows(InvalidTokenException.class, () -> tokenService.refresh(otherSession.getRefreshToken()));
+        // 최초 회전 1건 + 살아 있던 두 세션의 access token
+        assertThat(revokedTokenRepository.count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("알 수 없는 refresh token은 거부")
+    void unknownToken() {
+        assertThrows(InvalidTokenException.class, () -> tokenService.refresh("unknown"));
+        assertThrows(InvalidTokenException.class, () -> tokenService.refresh(null));
+    }
+}
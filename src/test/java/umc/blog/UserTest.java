@@ -0,0 +1,48 @@
+package umc.blog;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import umc.blog.dto.UserDto;
+import umc.blog.entity.User;
+import umc.blog.exception.UserAlreadyExistException;
+import umc.blog.repository.UserRepository;
+import umc.blog.service.UserService;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+// 가입은 트랜잭션 밖에서 커밋되므로 테스트 트랜잭션 대신 직접 정리
+@SpringBootTest
+public class UserTest {
+    private final UserService userService;
+    private final UserRepository userRepository;
+
+    @Autowired
+    public UserTest(UserService userService, UserRepository userRepository) {
+        this.userService = userService;
+        this.userRepository = userRepository;
+    }
+
+    @Test
+    @DisplayName("대소문자/전각/공백만 다른 아이디로 가입하면 UserAlreadyExistException")
+    void joinWithNormalizedDuplicate() {
+        // given
+        User user = userService.join(userDto("Foo", "password"));
+        try {
+            // when, then
+            assertThrows(UserAlreadyExistException.class, () -> userService.join(userDto("ｆｏｏ ", "password")));
+            assertThat(userRepository.findByUsernameNormalized("foo")).map(User::getId).contains(user.getId());
+        } finally {
+            userRepository.deleteById(user.getId());
+        }
+    }
+
+    private static UserDto userDto(String username, String password) {
+        UserDto userDto = new UserDto();
+        userDto.setUsername(username);
+        userDto.setPassword(password);
+        return userDto;
+    }
+}